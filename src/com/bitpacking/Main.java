@@ -2,11 +2,24 @@ package com.bitpacking;
 
 import com.bitpacking.benchmark.Benchmark;
 import com.bitpacking.benchmark.BenchmarkResult;
+import com.bitpacking.benchmark.CodecAdvisor;
+import com.bitpacking.benchmark.Objective;
+import com.bitpacking.cache.CachedBitPacking;
+import com.bitpacking.container.ColumnInfo;
+import com.bitpacking.container.ColumnarReader;
+import com.bitpacking.container.ColumnarWriter;
 import com.bitpacking.core.BitPacking;
 import com.bitpacking.core.CompressionType;
 import com.bitpacking.factory.BitPackingFactory;
+import com.bitpacking.impl.TimeSeriesAppender;
+import com.bitpacking.impl.TimeSeriesBitPacking;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 
 //  bit packing demo and benchmark
@@ -14,7 +27,7 @@ import java.util.Arrays;
 
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         System.out.println("*** bit packing compression ***\n");
 
         // basic demo..
@@ -23,6 +36,18 @@ public class Main {
         // test all types
         testAllTypes();
 
+        // corruption detection
+        integrityDemo();
+
+        // many columns in one file
+        containerDemo();
+
+        // skewed random access through a block cache
+        cacheDemo();
+
+        // metric timestamps and gauges
+        timeSeriesDemo();
+
         // benchmark
         runBenchmarks();
     }
@@ -71,6 +96,135 @@ public class Main {
             System.out.println(type + ": " + (correct ? "OK" : "FAIL") +
                 " (ratio : " + String.format("%.2fx", packer.getCompressionRatio()) + ")");
         }
+
+        // small signed deltas ~ zigzag keeps them narrow
+        int[] deltas = Benchmark.generateRandom(100, 254);
+        for (int i = 0; i < deltas.length; i++) deltas[i] -= 127;
+
+        for (CompressionType type : CompressionType.values()) {
+            BitPacking packer = BitPackingFactory.create(type);
+
+            int[] compressed = packer.compress(deltas);
+            boolean correct = Arrays.equals(deltas, packer.decompress(compressed, deltas.length));
+            System.out.println(type + " (signed): " + (correct ? "OK" : "FAIL") +
+                " (bits|value : " + packer.getBitsPerValue() + ")");
+        }
+    }
+
+    // flip one bit and catch it with checksums
+    private static void integrityDemo() {
+        System.out.println("\n--- INTEGRITY ---");
+
+        int[] data = Benchmark.generateSparse(10_000, 15, 1000, 10000);
+        BitPacking packer = BitPackingFactory.create(CompressionType.OVERFLOW);
+        int[] compressed = packer.compress(data);
+
+        System.out.println("verify (clean) : " + packer.verify());
+        compressed[0] ^= 1 << 3;
+        System.out.println("verify (1 bit flipped) : " + packer.verify());
+
+        packer.setVerifyOnAccess(true);
+        try {
+            packer.get(0);
+        } catch (IllegalStateException e) {
+            System.out.println("get(0) : " + e.getMessage());
+        }
+    }
+
+    // write 10 columns in parallel, read back only 2
+    private static void containerDemo() throws IOException {
+        System.out.println("\n--- COLUMNAR CONTAINER ---");
+
+        int columnCount = 10;
+        int[][] columns = new int[columnCount][];
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = Benchmark.generateRandom(10_000, (1 << (c + 4)) - 1);
+        }
+
+        ColumnarWriter writer = new ColumnarWriter();
+        IntStream.range(0, columnCount).parallel().forEach(c ->
+            writer.addColumn("col" + c, CompressionType.values()[c % 3], columns[c]));
+
+        Path file = Files.createTempFile("bitpacking", ".bpc");
+        try {
+            writer.write(file);
+            System.out.println("file size : " + Files.size(file) + " bytes");
+
+            try (ColumnarReader reader = ColumnarReader.open(file)) {
+                for (int c : new int[] {3, 7}) {
+                    ColumnInfo info = reader.getColumn("col" + c);
+                    BitPacking packer = reader.readColumn(info.name);
+
+                    boolean correct = packer.verify();
+                    for (int i = 0; i < info.size && correct; i++) {
+                        correct = packer.get(i) == columns[c][i];
+                    }
+                    System.out.println(info.name + " (" + info.type + ", " + info.bitsPerValue + " bits) : "
+                            + (correct ? "OK" : "FAIL"));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // 90% of reads hit 5% of the indices
+    private static void cacheDemo() {
+        System.out.println("\n--- BLOCK CACHE ---");
+
+        int[] data = Benchmark.generateRandom(100_000, 4095);
+        CachedBitPacking packer = new CachedBitPacking(
+            BitPackingFactory.create(CompressionType.OVERLAPPING), 64 * 1024);
+        packer.compress(data);
+
+        Random random = new Random(7);
+        int hotRange = data.length / 20;
+        boolean correct = true;
+        for (int i = 0; i < 100_000; i++) {
+            int index = random.nextDouble() < 0.9 ? random.nextInt(hotRange) : random.nextInt(data.length);
+            correct &= packer.get(index) == data[index];
+        }
+        System.out.println("reads : " + (correct ? "OK" : "FAIL"));
+        System.out.println("stats : " + packer.getStats());
+    }
+
+    // 10s scrape interval with jitter, slowly moving gauge
+    private static void timeSeriesDemo() {
+        System.out.println("\n--- TIME SERIES ---");
+
+        Random random = new Random(11);
+        int[] timestamps = new int[100_000];
+        int[] gauge = new int[timestamps.length];
+        int now = 1_700_000_000;
+        int level = 5000;
+        for (int i = 0; i < timestamps.length; i++) {
+            now += 10 + (random.nextDouble() < 0.05 ? random.nextInt(3) - 1 : 0);
+            timestamps[i] = now;
+            if (random.nextDouble() < 0.3) level += random.nextInt(5) - 2;
+            gauge[i] = level;
+        }
+
+        for (int[] data : new int[][] {timestamps, gauge}) {
+            String name = data == timestamps ? "timestamps" : "gauge";
+            for (CompressionType type : new CompressionType[] {CompressionType.OVERLAPPING, CompressionType.TIMESERIES}) {
+                BitPacking packer = BitPackingFactory.create(type);
+                packer.compress(data);
+                System.out.println(name + " " + type + " : " +
+                    String.format("%.2fx", packer.getCompressionRatio()));
+            }
+        }
+
+        // stream in, then read one minute of data
+        TimeSeriesAppender appender = new TimeSeriesAppender();
+        appender.appendAll(timestamps);
+        TimeSeriesBitPacking packer = appender.toBitPacking();
+
+        int start = timestamps[50_000];
+        int from = packer.lowerBound(start);
+        int to = packer.lowerBound(start + 60);
+        int[] window = packer.getRange(from, to);
+        boolean correct = Arrays.equals(window, Arrays.copyOfRange(timestamps, from, to));
+        System.out.println("range [" + start + ", +60s) : " + window.length + " points " + (correct ? "OK" : "FAIL"));
     }
 
     // run benchmarks
@@ -96,10 +250,19 @@ public class Main {
             Benchmark.printTransmissionAnalysis(result, 100); // 100 Mbps
         }
 
+        // same question, answered before compressing
+        System.out.println("\n--- codec advisor ---");
+        CodecAdvisor advisor = CodecAdvisor.calibrate();
+        System.out.println("min size :          " + advisor.recommend(testData, Objective.MIN_SIZE));
+        System.out.println("min decode cpu :    " + advisor.recommend(testData, Objective.MIN_DECODE_CPU));
+        System.out.println("min latency 100 Mbps: " + advisor.recommend(testData, Objective.MIN_LATENCY, 100));
+        System.out.println("min latency 10 Gbps : " + advisor.recommend(testData, Objective.MIN_LATENCY, 10_000));
+
         System.out.println("\n***=== summary ===***");
         System.out.println("OVERLAPPING  : best compression, slower access!");
         System.out.println("NON_OVERLAPPING: faster access, more space!");
         System.out.println("OVERFLOW     : best for sparse data!");
+        System.out.println("TIMESERIES   : best for timestamps and slow gauges!");
     }
 
     private static void benchmarkAll(int[] data) {
@@ -17,7 +17,7 @@ public class Benchmark {
     // benchmark single type
 
     public static BenchmarkResult benchmark(CompressionType type, int[] data) {
-        BitPacking packer = BitPackingFactory.create(type);
+        BitPacking packer = BitPackingFactory.create(type, data);
         
         // time compression
         long startTime = System.nanoTime();
@@ -0,0 +1,197 @@
+package com.bitpacking.benchmark;
+
+import com.bitpacking.core.BitPacking;
+import com.bitpacking.core.CompressionType;
+import com.bitpacking.factory.BitPackingFactory;
+import com.bitpacking.impl.TimeSeriesBitPacking;
+import com.bitpacking.utils.BitUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+
+  // picks a codec from one min/max pass, a small sample + per-machine throughput tables
+ // same cost model as Benchmark.printTransmissionAnalysis, but before the fact
+ // costs are per value, measured once on random 12-bit data ~ OVERFLOW and TIMESERIES
+ // speed depends on the data, so their encode/decode times are only rough guesses
+
+public class CodecAdvisor {
+
+    private static final int MIN_SAMPLE = 1024;
+    private static final int SAMPLE_FRACTION = 100; // sample ~1%
+    private static final int SAMPLE_RUN = TimeSeriesBitPacking.BLOCK_SIZE; // contiguous values per run
+
+    private static final int CALIBRATION_SIZE = 100_000;
+    private static final int CALIBRATION_RUNS = 5;
+
+    private final Map<CompressionType, Double> encodeNsPerValue;
+    private final Map<CompressionType, Double> decodeNsPerValue;
+
+    public CodecAdvisor(Map<CompressionType, Double> encodeNsPerValue,
+                        Map<CompressionType, Double> decodeNsPerValue) {
+        if (encodeNsPerValue == null || decodeNsPerValue == null) {
+            throw new IllegalArgumentException("throughput tables cannot be null");
+        }
+        this.encodeNsPerValue = new EnumMap<>(encodeNsPerValue);
+        this.decodeNsPerValue = new EnumMap<>(decodeNsPerValue);
+    }
+
+    // measure this machine ~ run once, reuse the advisor
+    public static CodecAdvisor calibrate() {
+        Map<CompressionType, Double> encode = new EnumMap<>(CompressionType.class);
+        Map<CompressionType, Double> decode = new EnumMap<>(CompressionType.class);
+        int[] data = Benchmark.generateRandom(CALIBRATION_SIZE, 4095);
+
+        for (CompressionType type : CompressionType.values()) {
+            long bestCompress = Long.MAX_VALUE;
+            long bestDecompress = Long.MAX_VALUE;
+
+            // keep the best run ~ first ones are JIT warmup
+            for (int run = 0; run < CALIBRATION_RUNS; run++) {
+                BenchmarkResult r = Benchmark.benchmark(type, data);
+                bestCompress = Math.min(bestCompress, r.compressTimeNs);
+                bestDecompress = Math.min(bestDecompress, r.decompressTimeNs);
+            }
+            encode.put(type, (double) bestCompress / data.length);
+            decode.put(type, (double) bestDecompress / data.length);
+        }
+        return new CodecAdvisor(encode, decode);
+    }
+
+    public Recommendation recommend(int[] data, Objective objective) {
+        if (objective == Objective.MIN_LATENCY) {
+            throw new IllegalArgumentException("MIN_LATENCY needs a bandwidth");
+        }
+        return recommend(data, objective, Double.NaN);
+    }
+
+    public Recommendation recommend(int[] data, Objective objective, double bandwidthMbps) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("data cannot be null or empty");
+        }
+        if (objective == null) {
+            throw new IllegalArgumentException("objective cannot be null");
+        }
+        if (objective == Objective.MIN_LATENCY && !(bandwidthMbps > 0)) {
+            throw new IllegalArgumentException("bandwidth must be positive");
+        }
+
+        // full pass ~ packed widths come from the extremes, which a sample can miss
+        int[] range = BitUtils.minMax(data);
+        int[] sample = sample(data);
+        boolean latency = objective == Objective.MIN_LATENCY;
+
+        // raw baseline ~ no codec cost
+        Recommendation best = new Recommendation(null, data.length, 0, 0,
+                latency ? transmissionMs(data.length, bandwidthMbps) : Double.NaN);
+
+        for (CompressionType type : CompressionType.values()) {
+            Double encodeCost = encodeNsPerValue.get(type);
+            Double decodeCost = decodeNsPerValue.get(type);
+            if (encodeCost == null || decodeCost == null) continue; // not calibrated
+
+            int estimatedSize = estimateSize(type, data.length, range, sample);
+
+            double encodeNs = encodeCost * data.length;
+            double decodeNs = decodeCost * data.length;
+            double latencyMs = latency
+                    ? transmissionMs(estimatedSize, bandwidthMbps) + (encodeNs + decodeNs) / 1_000_000.0
+                    : Double.NaN;
+
+            Recommendation candidate = new Recommendation(type, estimatedSize, encodeNs, decodeNs, latencyMs);
+            if (isBetter(candidate, best, objective, data.length)) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    // width-driven codecs are exact, data-dependent ones lean on the sample
+    private static int estimateSize(CompressionType type, int n, int[] range, int[] sample) {
+        int bits = BitUtils.bitsNeededForRange(range[0], range[1]);
+
+        switch (type) {
+            case OVERLAPPING:
+                return (int) ((n * (long) bits + 31) / 32);
+            case NON_OVERLAPPING:
+                int valuesPerInt = 32 / bits;
+                return (int) ((n + (long) valuesPerInt - 1) / valuesPerInt);
+            case OVERFLOW:
+                return overflowSize(n, range, sample);
+            default:
+                // scale the sample's ratio up to the full array
+                BitPacking packer = BitPackingFactory.create(type);
+                int sampleSize = packer.compress(sample).length;
+                return (int) Math.ceil((double) sampleSize * n / sample.length);
+        }
+    }
+
+    // same threshold search as OverflowBitPacking ~ widths from the full range, counts from the sample
+    private static int overflowSize(int n, int[] range, int[] sample) {
+        int min = range[0];
+        int max = range[1];
+        boolean zigzag = min < 0
+                && BitUtils.zigzagBitsForRange(min, max) <= BitUtils.offsetBitsForRange(min, max);
+        int offset = min < 0 && !zigzag ? min : 0;
+        int maxBits = BitUtils.bitsNeededForRange(min, max);
+
+        // sample values by encoded width
+        int[] widths = new int[33];
+        for (int value : sample) {
+            widths[BitUtils.bitsNeeded(zigzag ? BitUtils.zigzagEncode(value) : value - offset)]++;
+        }
+
+        long best = (n * (long) maxBits + 31) / 32; // no overflow area
+        int above = 0; // sample values wider than thresholdBits
+        for (int thresholdBits = maxBits - 1; thresholdBits >= Math.max(1, maxBits - 8); thresholdBits--) {
+            above += widths[thresholdBits + 1];
+
+            // the array's extreme always overflows, even when the sample missed it
+            long overflowCount = Math.max(1, (long) Math.ceil((double) above * n / sample.length));
+            if (BitUtils.bitsNeeded((int) overflowCount) > thresholdBits) continue;
+
+            best = Math.min(best, (n * (long) (thresholdBits + 1) + 31) / 32 + overflowCount);
+        }
+        return (int) best;
+    }
+
+    private static boolean isBetter(Recommendation candidate, Recommendation best,
+                                    Objective objective, int rawSize) {
+        switch (objective) {
+            case MIN_SIZE:
+                return candidate.estimatedSize < best.estimatedSize;
+            case MIN_LATENCY:
+                return candidate.latencyMs < best.latencyMs;
+            case MIN_DECODE_CPU:
+                // only codecs that actually shrink the data qualify
+                if (candidate.estimatedSize >= rawSize) return false;
+                return best.isRaw() || candidate.decodeNs < best.decodeNs;
+            default:
+                throw new IllegalArgumentException("unsupported objective: " + objective);
+        }
+    }
+
+    // same units as printTransmissionAnalysis
+    private static double transmissionMs(int ints, double bandwidthMbps) {
+        double bandwidthBitsPerMs = bandwidthMbps * 1000;
+        return ints * 32.0 / bandwidthBitsPerMs;
+    }
+
+    // whole blocks spread evenly ~ delta codecs need real neighbours,
+    // a strided sample turns every delta into a jump. only data-dependent
+    // estimates use it ~ widths always come from the full range
+    private static int[] sample(int[] data) {
+        int size = Math.max(MIN_SAMPLE, data.length / SAMPLE_FRACTION);
+        int blocks = data.length / SAMPLE_RUN;
+        int runs = (size + SAMPLE_RUN - 1) / SAMPLE_RUN;
+        if (runs >= blocks) return data;
+
+        // runs start block-aligned ~ each one is exactly one TIMESERIES block in the sample
+        int[] sample = new int[runs * SAMPLE_RUN];
+        for (int run = 0; run < runs; run++) {
+            int block = (int) ((long) run * blocks / runs);
+            System.arraycopy(data, block * SAMPLE_RUN, sample, run * SAMPLE_RUN, SAMPLE_RUN);
+        }
+        return sample;
+    }
+}
@@ -0,0 +1,9 @@
+package com.bitpacking.benchmark;
+
+ // what the codec advisor optimizes for
+ 
+public enum Objective {
+    MIN_SIZE,        // smallest packed output
+    MIN_LATENCY,     // encode + transfer + decode at a given bandwidth
+    MIN_DECODE_CPU   // cheapest decode among codecs that shrink the data
+}
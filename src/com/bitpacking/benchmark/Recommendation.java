@@ -0,0 +1,38 @@
+package com.bitpacking.benchmark;
+
+import com.bitpacking.core.CompressionType;
+
+//  codec advisor output ~ estimates for the chosen codec
+
+
+public class Recommendation {
+
+    public final CompressionType type; // null means ship raw
+    public final int estimatedSize;    // in ints
+    public final double encodeNs;
+    public final double decodeNs;
+    public final double latencyMs;     // NaN unless optimizing latency
+
+    public Recommendation(
+            CompressionType type,
+            int estimatedSize,
+            double encodeNs,
+            double decodeNs,
+            double latencyMs) {
+        this.type = type;
+        this.estimatedSize = estimatedSize;
+        this.encodeNs = encodeNs;
+        this.decodeNs = decodeNs;
+        this.latencyMs = latencyMs;
+    }
+
+    // compression does not pay off
+    public boolean isRaw() {
+        return type == null;
+    }
+
+    @Override
+    public String toString() {
+        return (isRaw() ? "RAW" : type.toString()) + " (" + estimatedSize + " ints)";
+    }
+}
@@ -0,0 +1,31 @@
+package com.bitpacking.cache;
+
+//  snapshot of block cache counters
+
+
+public class CacheStats {
+
+    public final long hits;
+    public final long misses;
+    public final long evictions;
+    public final int cachedBlocks;
+
+    public CacheStats(long hits, long misses, long evictions, int cachedBlocks) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.cachedBlocks = cachedBlocks;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        if (total == 0) return 0.0;
+        return (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d misses=%d evictions=%d blocks=%d hit rate=%.1f%%",
+                hits, misses, evictions, cachedBlocks, getHitRate() * 100);
+    }
+}
@@ -0,0 +1,204 @@
+package com.bitpacking.cache;
+
+import com.bitpacking.core.BitPacking;
+import com.bitpacking.core.CompressionType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+  // read-through cache of decoded blocks in front of any packer
+ // hits are lock-free array loads, misses decode one block, CLOCK evicts
+
+public class CachedBitPacking implements BitPacking {
+
+    public static final int DEFAULT_BLOCK_SIZE = 256; // values per block
+
+    private final BitPacking delegate;
+    private final int blockShift;
+    private final int blockMask;
+    private final int capacity; // blocks the budget allows
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // swapped whole on compress/load ~ readers never see a half-reset table
+    private volatile Table table;
+
+    public CachedBitPacking(BitPacking delegate, long memoryBudgetBytes) {
+        this(delegate, memoryBudgetBytes, DEFAULT_BLOCK_SIZE);
+    }
+
+    public CachedBitPacking(BitPacking delegate, long memoryBudgetBytes, int blockSize) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (blockSize <= 0 || Integer.bitCount(blockSize) != 1) {
+            throw new IllegalArgumentException("block size must be a power of two");
+        }
+        long blockBytes = blockSize * 4L;
+        if (memoryBudgetBytes < blockBytes) {
+            throw new IllegalArgumentException("memory budget smaller than one block");
+        }
+
+        this.delegate = delegate;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+        this.blockMask = blockSize - 1;
+        this.capacity = (int) Math.min(Integer.MAX_VALUE, memoryBudgetBytes / blockBytes);
+
+        // delegate may already hold data ~ e.g. a column from ColumnarReader
+        this.table = new Table(delegate.getOriginalSize());
+    }
+
+    // swapping data is not safe against concurrent readers ~ same as the delegate
+    @Override
+    public int[] compress(int[] data) {
+        int[] compressed = delegate.compress(data);
+        table = new Table(data.length);
+        return compressed;
+    }
+
+    @Override
+    public int[] decompress(int[] compressed, int originalSize) {
+        return delegate.decompress(compressed, originalSize);
+    }
+
+    @Override
+    public int get(int index) {
+        Table current = table;
+        if (current.size == 0) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+        if (index < 0 || index >= current.size) {
+            throw new IndexOutOfBoundsException("index out of bounds");
+        }
+
+        int block = index >>> blockShift;
+        int[] values = current.blocks.get(block);
+        if (values != null) {
+            // plain write, only when the bit is clear ~ hot blocks stay read-only
+            if (!current.referenced[block]) current.referenced[block] = true;
+            hits.increment();
+            return values[index & blockMask];
+        }
+
+        misses.increment();
+        return current.load(block)[index & blockMask];
+    }
+
+    @Override
+    public int[] getRange(int fromIndex, int toIndex) {
+        return delegate.getRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public int getOriginalSize() {
+        return table.size;
+    }
+
+    public CacheStats getStats() {
+        Table current = table;
+        int cached;
+        synchronized (current) {
+            cached = current.used;
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), cached);
+    }
+
+    // drop cached blocks ~ counters keep running
+    public void clear() {
+        table = new Table(table.size);
+    }
+
+    @Override
+    public int getBitsPerValue() {
+        return delegate.getBitsPerValue();
+    }
+
+    @Override
+    public double getCompressionRatio() {
+        return delegate.getCompressionRatio();
+    }
+
+    @Override
+    public CompressionType getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public boolean verify() {
+        return delegate.verify();
+    }
+
+    @Override
+    public void setVerifyOnAccess(boolean verifyOnAccess) {
+        delegate.setVerifyOnAccess(verifyOnAccess);
+    }
+
+    @Override
+    public int[] getBlockChecksums() {
+        return delegate.getBlockChecksums();
+    }
+
+    @Override
+    public int[] getParameters() {
+        return delegate.getParameters();
+    }
+
+    @Override
+    public void load(int[] compressed, int originalSize, int[] parameters, int[] blockChecksums) {
+        delegate.load(compressed, originalSize, parameters, blockChecksums);
+        table = new Table(originalSize);
+    }
+
+    // cached blocks of one data set ~ indexed by block number
+    private class Table {
+        final int size;
+        final AtomicReferenceArray<int[]> blocks;
+        final boolean[] referenced; // CLOCK bit per block
+
+        // CLOCK ring ~ guarded by this
+        final int[] ring;
+        int hand;
+        int used;
+
+        Table(int size) {
+            int blockCount = (int) (((long) size + blockMask) >>> blockShift);
+            this.size = size;
+            this.blocks = new AtomicReferenceArray<>(blockCount);
+            this.referenced = new boolean[blockCount];
+            this.ring = new int[Math.min(capacity, Math.max(1, blockCount))];
+            Arrays.fill(ring, -1);
+        }
+
+        // decode outside the lock, insert under it
+        int[] load(int block) {
+            int from = block << blockShift;
+            int[] values = delegate.getRange(from, Math.min(from + blockMask + 1, size));
+
+            synchronized (this) {
+                int[] existing = blocks.get(block);
+                if (existing != null) return existing; // another reader won
+
+                if (used < ring.length) {
+                    ring[used++] = block;
+                } else {
+                    // second chance: clear set bits until an unreferenced block comes round
+                    while (referenced[ring[hand]]) {
+                        referenced[ring[hand]] = false;
+                        hand = (hand + 1) % ring.length;
+                    }
+                    blocks.set(ring[hand], null);
+                    evictions.increment();
+                    ring[hand] = block;
+                    hand = (hand + 1) % ring.length;
+                }
+                referenced[block] = true;
+                blocks.set(block, values);
+            }
+            return values;
+        }
+    }
+}
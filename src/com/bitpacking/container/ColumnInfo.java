@@ -0,0 +1,37 @@
+package com.bitpacking.container;
+
+import com.bitpacking.core.CompressionType;
+
+//  footer entry ~ where a packed column lives and how to decode it
+
+
+public class ColumnInfo {
+
+    public final String name;
+    public final CompressionType type;
+    public final int size;       // values in the column
+    public final long offset;    // byte offset of packed data
+    public final int length;     // packed length in ints
+    public final int bitsPerValue;
+
+    final int[] parameters;
+    final int[] blockChecksums;
+
+    ColumnInfo(
+            String name,
+            CompressionType type,
+            int size,
+            long offset,
+            int length,
+            int[] parameters,
+            int[] blockChecksums) {
+        this.name = name;
+        this.type = type;
+        this.size = size;
+        this.offset = offset;
+        this.length = length;
+        this.bitsPerValue = parameters[0];
+        this.parameters = parameters;
+        this.blockChecksums = blockChecksums;
+    }
+}
@@ -0,0 +1,231 @@
+package com.bitpacking.container;
+
+import com.bitpacking.core.BitPacking;
+import com.bitpacking.core.CompressionType;
+import com.bitpacking.factory.BitPackingFactory;
+import com.bitpacking.impl.TimeSeriesBitPacking;
+import com.bitpacking.utils.Checksums;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+  // opens a columnar file and reads only the columns asked for
+ // positional reads ~ safe to share between threads
+
+public class ColumnarReader implements Closeable {
+
+    private final FileChannel channel;
+    private final Map<String, ColumnInfo> columns;
+
+    private ColumnarReader(FileChannel channel, Map<String, ColumnInfo> columns) {
+        this.channel = channel;
+        this.columns = columns;
+    }
+
+    // reads header and footer only
+    public static ColumnarReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new ColumnarReader(channel, readFooter(channel));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public List<ColumnInfo> getColumns() {
+        return Collections.unmodifiableList(new ArrayList<>(columns.values()));
+    }
+
+    public ColumnInfo getColumn(String name) {
+        ColumnInfo info = columns.get(name);
+        if (info == null) {
+            throw new IllegalArgumentException("unknown column: " + name);
+        }
+        return info;
+    }
+
+    // load one column ~ only its bytes are read
+    public BitPacking readColumn(String name) throws IOException {
+        ColumnInfo info = getColumn(name);
+
+        ByteBuffer buffer = ByteBuffer.allocate(info.length * 4);
+        readFully(buffer, info.offset);
+        int[] compressed = new int[info.length];
+        buffer.asIntBuffer().get(compressed);
+
+        BitPacking packer = BitPackingFactory.create(info.type, info.bitsPerValue);
+        packer.load(compressed, info.size, info.parameters.clone(), info.blockChecksums);
+        return packer;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static Map<String, ColumnInfo> readFooter(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < ColumnarWriter.HEADER_BYTES + ColumnarWriter.TRAILER_BYTES) {
+            throw new IOException("file too small for a columnar container");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(ColumnarWriter.HEADER_BYTES);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != ColumnarWriter.MAGIC) {
+            throw new IOException("not a columnar container");
+        }
+        if (header.getInt(4) != ColumnarWriter.VERSION) {
+            throw new IOException("unsupported container version: " + header.getInt(4));
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(ColumnarWriter.TRAILER_BYTES);
+        readFully(channel, trailer, fileSize - ColumnarWriter.TRAILER_BYTES);
+        int footerLength = trailer.getInt(0);
+        if (trailer.getInt(4) != ColumnarWriter.MAGIC) {
+            throw new IOException("missing trailer ~ file truncated?");
+        }
+        long footerStart = fileSize - ColumnarWriter.TRAILER_BYTES - footerLength;
+        if (footerLength < 4 || footerStart < ColumnarWriter.HEADER_BYTES) {
+            throw new IOException("bad footer length: " + footerLength);
+        }
+
+        ByteBuffer footer = ByteBuffer.allocate(footerLength);
+        readFully(channel, footer, footerStart);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer.array()));
+
+        Map<String, ColumnInfo> columns = new LinkedHashMap<>();
+        int count = in.readInt();
+
+        for (int c = 0; c < count; c++) {
+            String name = in.readUTF();
+            CompressionType type = typeOf(in.readUTF(), name);
+            int size = in.readInt();
+            long offset = in.readLong();
+            int length = in.readInt();
+            int[] parameters = readInts(in);
+            int[] blockChecksums = readInts(in);
+
+            if (length <= 0 || offset < ColumnarWriter.HEADER_BYTES || offset + length * 4L > footerStart) {
+                throw new IOException("column " + name + " lies outside the data section");
+            }
+            checkColumn(name, type, size, length, parameters, blockChecksums);
+            columns.put(name, new ColumnInfo(name, type, size, offset, length, parameters, blockChecksums));
+        }
+        return columns;
+    }
+
+    private static CompressionType typeOf(String typeName, String column) throws IOException {
+        try {
+            return CompressionType.valueOf(typeName);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("unknown compression type " + typeName + " in column " + column);
+        }
+    }
+
+    // reject anything the codec would choke on ~ corrupt files fail here, not on first get
+    private static void checkColumn(String name, CompressionType type, int size, int length,
+                                    int[] parameters, int[] blockChecksums) throws IOException {
+        if (size <= 0) {
+            throw new IOException("column " + name + " has bad size: " + size);
+        }
+        if (blockChecksums.length != Checksums.blockCount(length)) {
+            throw new IOException("column " + name + " has " + blockChecksums.length + " checksums for " + length + " ints");
+        }
+        // bitsPerValue, zigzag flag, offset
+        if (parameters.length < 3 || parameters[1] < 0 || parameters[1] > 1) {
+            throw new IOException("column " + name + " has bad codec parameters");
+        }
+
+        int bits = parameters[0];
+        long expected;
+        switch (type) {
+            case OVERLAPPING:
+                checkBits(name, bits);
+                expected = (size * (long) bits + 31) / 32;
+                checkBitCount(name, size * (long) bits);
+                break;
+            case NON_OVERLAPPING:
+                checkBits(name, bits);
+                int valuesPerInt = 32 / bits;
+                expected = (size + (long) valuesPerInt - 1) / valuesPerInt;
+                break;
+            case OVERFLOW:
+                checkBits(name, bits);
+                if (parameters.length < 5) {
+                    throw new IOException("column " + name + " is missing overflow parameters");
+                }
+                int mainBits = parameters[3];
+                int totalMainBits = parameters[4];
+                checkBits(name, mainBits);
+                checkBits(name, totalMainBits);
+                if (totalMainBits != mainBits && totalMainBits != mainBits + 1) {
+                    throw new IOException("column " + name + " has bad overflow widths");
+                }
+                checkBitCount(name, size * (long) totalMainBits);
+                long mainStorage = (size * (long) totalMainBits + 31) / 32;
+                // overflow area follows main storage, only when a flag bit is used
+                expected = totalMainBits == mainBits || length < mainStorage ? mainStorage : length;
+                break;
+            case TIMESERIES:
+                long minimum = 1 + (size + (long) TimeSeriesBitPacking.BLOCK_SIZE - 1) / TimeSeriesBitPacking.BLOCK_SIZE;
+                expected = length < minimum ? minimum : length;
+                break;
+            default:
+                throw new IOException("unsupported compression type in column " + name + ": " + type);
+        }
+        if (length != expected) {
+            throw new IOException("column " + name + " is " + length + " ints, expected " + expected);
+        }
+    }
+
+    private static void checkBits(String name, int bits) throws IOException {
+        if (bits < 1 || bits > 32) {
+            throw new IOException("column " + name + " has bad bit width: " + bits);
+        }
+    }
+
+    // codecs address bits with int positions
+    private static void checkBitCount(String name, long bits) throws IOException {
+        if (bits > Integer.MAX_VALUE) {
+            throw new IOException("column " + name + " is too large to address");
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0 || length > in.available() / 4) {
+            throw new IOException("bad array length in footer: " + length);
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        readFully(channel, buffer, position);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException("unexpected end of file");
+        }
+        buffer.flip();
+    }
+}
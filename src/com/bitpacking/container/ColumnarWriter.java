@@ -0,0 +1,133 @@
+package com.bitpacking.container;
+
+import com.bitpacking.core.BitPacking;
+import com.bitpacking.core.CompressionType;
+import com.bitpacking.factory.BitPackingFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+  // writes many packed columns into one file
+ // layout: header | packed columns | footer | footer length | magic
+
+public class ColumnarWriter {
+
+    static final int MAGIC = 0x42504346; // "BPCF"
+    static final int VERSION = 2;      // 2: type stored by name
+    static final int HEADER_BYTES = 8;
+    static final int TRAILER_BYTES = 8;
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    // compress and add a column ~ safe to call from many threads at once
+    // the returned packer is the caller's, the writer keeps its own copy of the packed column
+    public BitPacking addColumn(String name, CompressionType type, int[] data) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("column name cannot be null or empty");
+        }
+
+        // encode outside the lock so columns pack in parallel
+        BitPacking packer = BitPackingFactory.create(type, data);
+        int[] compressed = packer.compress(data);
+
+        // snapshot now ~ recompressing the packer later must not change what gets written
+        Column column = new Column(name, packer.getType(), data.length, compressed.clone(),
+                packer.getParameters(), packer.getBlockChecksums());
+
+        synchronized (columns) {
+            if (columns.containsKey(name)) {
+                throw new IllegalArgumentException("duplicate column: " + name);
+            }
+            columns.put(name, column);
+        }
+        return packer;
+    }
+
+    public void write(Path path) throws IOException {
+        List<Column> snapshot;
+        synchronized (columns) {
+            snapshot = new ArrayList<>(columns.values());
+        }
+
+        try (OutputStream file = Files.newOutputStream(path);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            // packed data, remembering where each column starts
+            long[] offsets = new long[snapshot.size()];
+            long position = HEADER_BYTES;
+            for (int c = 0; c < snapshot.size(); c++) {
+                int[] compressed = snapshot.get(c).compressed;
+                offsets[c] = position;
+                for (int word : compressed) {
+                    out.writeInt(word);
+                }
+                position += compressed.length * 4L;
+            }
+
+            byte[] footer = footer(snapshot, offsets);
+            out.write(footer);
+            out.writeInt(footer.length);
+            out.writeInt(MAGIC);
+        }
+    }
+
+    private static byte[] footer(List<Column> snapshot, long[] offsets) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(snapshot.size());
+        for (int c = 0; c < snapshot.size(); c++) {
+            Column column = snapshot.get(c);
+
+            out.writeUTF(column.name);
+            out.writeUTF(column.type.name()); // by name ~ enum order can change
+            out.writeInt(column.size);
+            out.writeLong(offsets[c]);
+            out.writeInt(column.compressed.length);
+            writeInts(out, column.parameters);
+            writeInts(out, column.blockChecksums);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    // helper class
+    private static class Column {
+        final String name;
+        final CompressionType type;
+        final int size;
+        final int[] compressed;
+        final int[] parameters;
+        final int[] blockChecksums;
+
+        Column(String name, CompressionType type, int size, int[] compressed,
+               int[] parameters, int[] blockChecksums) {
+            this.name = name;
+            this.type = type;
+            this.size = size;
+            this.compressed = compressed;
+            this.parameters = parameters;
+            this.blockChecksums = blockChecksums;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.bitpacking.core;
 
 import com.bitpacking.utils.BitUtils;
+import com.bitpacking.utils.Checksums;
+
+import java.util.stream.IntStream;
  
  // base class for bit packing implementations
  
@@ -10,18 +13,62 @@ public abstract class AbstractBitPacking implements BitPacking {
     protected int bitsPerValue;
     protected int originalSize;
 
+    // signed values ~ zigzag or offset from min, offset 0 when nothing is negative
+    protected boolean zigzag;
+    protected int valueOffset;
+
+    // parameters every codec stores: bitsPerValue, zigzag, valueOffset
+    protected static final int BASE_PARAMETERS = 3;
+
+    // width baked into a specialized subclass, 0 when any width is allowed
+    private final int fixedBitsPerValue;
+
+    private int[] blockChecksums;
+    private boolean[] verifiedBlocks;
+    private boolean verifyOnAccess;
+
+    protected AbstractBitPacking() {
+        this(0);
+    }
+
+    protected AbstractBitPacking(int fixedBitsPerValue) {
+        if (fixedBitsPerValue < 0 || fixedBitsPerValue > 32) {
+            throw new IllegalArgumentException("fixed width must be 1..32, or 0 for any");
+        }
+        this.fixedBitsPerValue = fixedBitsPerValue;
+    }
+
     @Override
     public int[] compress(int[] data) {
         if (data == null || data.length == 0) {
             throw new IllegalArgumentException("data cannot be null or empty");
         }
 
-        // calculate bits needed
-        this.bitsPerValue = BitUtils.bitsNeededForArray(data);
+        // calculate bits needed ~ signed arrays pick the narrower encoding
+        int[] range = BitUtils.minMax(data);
+        int bits = BitUtils.bitsNeededForRange(range[0], range[1]);
+
+        // fixed-width codecs pack narrower data at their own width
+        if (fixedBitsPerValue != 0) {
+            if (bits > fixedBitsPerValue) {
+                throw new IllegalArgumentException("values need " + bits
+                        + " bits, codec is fixed at " + fixedBitsPerValue);
+            }
+            bits = fixedBitsPerValue;
+        }
+
+        this.bitsPerValue = bits;
+        this.zigzag = range[0] < 0
+                && BitUtils.zigzagBitsForRange(range[0], range[1]) <= BitUtils.offsetBitsForRange(range[0], range[1]);
+        this.valueOffset = range[0] < 0 && !zigzag ? range[0] : 0;
         this.originalSize = data.length;
 
         // delegate to subclass
         this.compressedData = performCompression(data, bitsPerValue);
+
+        // checksum packed blocks
+        this.blockChecksums = Checksums.compute(compressedData);
+        this.verifiedBlocks = new boolean[blockChecksums.length];
         return this.compressedData;
     }
 
@@ -33,15 +80,62 @@ public abstract class AbstractBitPacking implements BitPacking {
         return performDecompression(compressed, originalSize);
     }
 
+    @Override
+    public void load(int[] compressed, int originalSize, int[] parameters, int[] blockChecksums) {
+        if (compressed == null || parameters == null) {
+            throw new IllegalArgumentException("compressed data and parameters cannot be null");
+        }
+        if (parameters.length < BASE_PARAMETERS) {
+            throw new IllegalArgumentException("expected at least " + BASE_PARAMETERS + " parameters");
+        }
+        if (originalSize <= 0) {
+            throw new IllegalArgumentException("original size must be positive");
+        }
+        if (fixedBitsPerValue != 0 && parameters[0] != fixedBitsPerValue) {
+            throw new IllegalArgumentException("data packed at " + parameters[0]
+                    + " bits, codec is fixed at " + fixedBitsPerValue);
+        }
+        if (blockChecksums != null && blockChecksums.length != Checksums.blockCount(compressed.length)) {
+            throw new IllegalArgumentException("checksum count does not match compressed data");
+        }
+
+        this.compressedData = compressed;
+        this.originalSize = originalSize;
+        this.bitsPerValue = parameters[0];
+        this.zigzag = parameters[1] != 0;
+        this.valueOffset = parameters[2];
+
+        // delegate to subclass
+        restoreState(parameters);
+
+        this.blockChecksums = blockChecksums != null ? blockChecksums.clone() : Checksums.compute(compressed);
+        this.verifiedBlocks = new boolean[this.blockChecksums.length];
+    }
+
     @Override
     public int get(int index) {
+        checkIndex(index);
+        return performGet(index);
+    }
+
+    @Override
+    public int[] getRange(int fromIndex, int toIndex) {
         if (compressedData == null) {
             throw new IllegalStateException("no data compressed yet");
         }
-        if (index < 0 || index >= originalSize) {
-            throw new IndexOutOfBoundsException("index out of bounds");
+        if (fromIndex < 0 || toIndex > originalSize || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("bad range: " + fromIndex + ".." + toIndex);
         }
-        return performGet(index);
+        int[] values = new int[toIndex - fromIndex];
+        if (values.length > 0) {
+            performGetRange(fromIndex, values);
+        }
+        return values;
+    }
+
+    @Override
+    public int getOriginalSize() {
+        return compressedData == null ? 0 : originalSize;
     }
 
     @Override
@@ -55,9 +149,86 @@ public abstract class AbstractBitPacking implements BitPacking {
         return (double) originalSize / compressedData.length;
     }
 
+    @Override
+    public boolean verify() {
+        if (compressedData == null) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+        // blocks are independent ~ check them in parallel
+        return IntStream.range(0, blockChecksums.length)
+                .parallel()
+                .allMatch(this::checkBlock);
+    }
+
+    @Override
+    public void setVerifyOnAccess(boolean verifyOnAccess) {
+        this.verifyOnAccess = verifyOnAccess;
+    }
+
+    @Override
+    public int[] getBlockChecksums() {
+        return blockChecksums == null ? null : blockChecksums.clone();
+    }
+
+    @Override
+    public int[] getParameters() {
+        if (compressedData == null) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+        return new int[] { bitsPerValue, zigzag ? 1 : 0, valueOffset };
+    }
+
+    // width subclasses override get() directly ~ same checks as above
+    protected final void checkIndex(int index) {
+        if (compressedData == null) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+        if (index < 0 || index >= originalSize) {
+            throw new IndexOutOfBoundsException("index out of bounds");
+        }
+    }
+
+    // subclasses call this from performGet with the ints they read
+    protected final void ensureVerified(int fromInt, int toInt) {
+        if (!verifyOnAccess) return;
+
+        int last = Checksums.blockOf(Math.min(toInt, compressedData.length - 1));
+        for (int block = Checksums.blockOf(fromInt); block <= last; block++) {
+            if (!verifiedBlocks[block] && !checkBlock(block)) {
+                throw new IllegalStateException("checksum mismatch in block " + block);
+            }
+        }
+    }
+
+    private boolean checkBlock(int block) {
+        boolean ok = Checksums.blockChecksum(compressedData, block) == blockChecksums[block];
+        // benign race ~ worst case a block is checked twice
+        verifiedBlocks[block] = ok;
+        return ok;
+    }
+
+    // subclasses apply these inside their encode/decode loops ~ no extra pass
+    protected final int encodeValue(int value) {
+        return zigzag ? BitUtils.zigzagEncode(value) : value - valueOffset;
+    }
+
+    protected final int decodeValue(int encoded) {
+        return zigzag ? BitUtils.zigzagDecode(encoded) : encoded + valueOffset;
+    }
+
     // subclasses implement these
     
     protected abstract int[] performCompression(int[] data, int bitsPerValue);
     protected abstract int[] performDecompression(int[] compressed, int originalSize);
     protected abstract int performGet(int index);
+
+    // subclasses override with a sequential decode ~ default goes value by value
+    protected void performGetRange(int fromIndex, int[] out) {
+        for (int i = 0; i < out.length; i++) {
+            out[i] = performGet(fromIndex + i);
+        }
+    }
+
+    // rebuild derived state after load ~ parameters come from getParameters()
+    protected void restoreState(int[] parameters) {}
 }
@@ -14,6 +14,12 @@ public interface BitPacking {
     // get value at index without full decompression
     int get(int index);
     
+    // values [fromIndex, toIndex) in one sequential decode
+    int[] getRange(int fromIndex, int toIndex);
+    
+    // number of values packed ~ 0 before compress or load
+    int getOriginalSize();
+    
     // bits used per value
     int getBitsPerValue();
     
@@ -22,4 +28,19 @@ public interface BitPacking {
     
     // compression type
     CompressionType getType();
+    
+    // check every block of packed data against its checksum
+    boolean verify();
+    
+    // check a block's checksum the first time get() touches it
+    void setVerifyOnAccess(boolean verifyOnAccess);
+    
+    // per-block CRC32C of packed data
+    int[] getBlockChecksums();
+    
+    // codec state needed to decode packed data again
+    int[] getParameters();
+    
+    // attach previously packed data without recompressing ~ null checksums are recomputed
+    void load(int[] compressed, int originalSize, int[] parameters, int[] blockChecksums);
 }
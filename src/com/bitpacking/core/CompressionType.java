@@ -5,5 +5,6 @@ package com.bitpacking.core;
 public enum CompressionType {
     OVERLAPPING,     // values can span integer boundaries  
     NON_OVERLAPPING,  // values stay within boundaries  
-    OVERFLOW           // two-tier storage for sparse data
+    OVERFLOW,          // two-tier storage for sparse data
+    TIMESERIES         // delta-of-delta / XOR blocks for timestamps and gauges
 }
@@ -3,8 +3,12 @@ package com.bitpacking.factory;
 import com.bitpacking.core.BitPacking;
 import com.bitpacking.core.CompressionType;
 import com.bitpacking.impl.NonOverlappingBitPacking;
+import com.bitpacking.impl.NonOverlappingWidths;
 import com.bitpacking.impl.OverflowBitPacking;
 import com.bitpacking.impl.OverlappingBitPacking;
+import com.bitpacking.impl.OverlappingWidths;
+import com.bitpacking.impl.TimeSeriesBitPacking;
+import com.bitpacking.utils.BitUtils;
 
 
   // factory for creating bit packing instances
@@ -26,8 +30,35 @@ public class BitPackingFactory {
                 return new NonOverlappingBitPacking();
             case OVERFLOW:
                 return new OverflowBitPacking();
+            case TIMESERIES:
+                return new TimeSeriesBitPacking();
             default:
                 throw new IllegalArgumentException("unsupported type: " + type);
         }
     }
+    
+    // compressor specialized for one bit width ~ OVERLAPPING and NON_OVERLAPPING only,
+    // other types ignore the width. the result rejects data needing more bits
+    public static BitPacking create(CompressionType type, int bitsPerValue) {
+        if (type == null) {
+            throw new IllegalArgumentException("type cannot be null");
+        }
+        
+        switch (type) {
+            case OVERLAPPING:
+                return OverlappingWidths.forWidth(bitsPerValue);
+            case NON_OVERLAPPING:
+                return NonOverlappingWidths.forWidth(bitsPerValue);
+            default:
+                return create(type);
+        }
+    }
+    
+    // compressor specialized for the width this data needs
+    public static BitPacking create(CompressionType type, int[] data) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("data cannot be null or empty");
+        }
+        return create(type, BitUtils.bitsNeededForArray(data));
+    }
 }
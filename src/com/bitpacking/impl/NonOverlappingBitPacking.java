@@ -12,6 +12,15 @@ public class NonOverlappingBitPacking extends AbstractBitPacking {
     
     private int valuesPerInt; // how many values fit in one integer
     
+    public NonOverlappingBitPacking() {
+        super();
+    }
+    
+    // per-width subclasses ~ see NonOverlappingWidths
+    protected NonOverlappingBitPacking(int fixedBitsPerValue) {
+        super(fixedBitsPerValue);
+    }
+    
     @Override
     public CompressionType getType() {
         return CompressionType.NON_OVERLAPPING;
@@ -19,21 +28,24 @@ public class NonOverlappingBitPacking extends AbstractBitPacking {
     
     @Override
     protected int[] performCompression(int[] data, int bitsPerValue) {
-        this.valuesPerInt = 32 / bitsPerValue;
+        configureWidth(bitsPerValue);
         
-        if (valuesPerInt == 0) {
-            throw new IllegalStateException("values require more than 32 bits");
-        }
         // calculate size
         int compressedSize = (data.length + valuesPerInt - 1) / valuesPerInt;
         int[] compressed = new int[compressedSize];
         
+        // walk slots in order ~ no divide per value
+        int intIndex = 0;
+        int slotIndex = 0;
         for (int i = 0; i < data.length; i++) {
-            int intIndex = i / valuesPerInt;
-            int slotIndex = i % valuesPerInt;
             int bitOffset = slotIndex * bitsPerValue;
             
-            BitUtils.writeBitsNonOverlapping(compressed, intIndex, bitOffset, data[i], bitsPerValue);
+            BitUtils.writeBitsNonOverlapping(compressed, intIndex, bitOffset, encodeValue(data[i]), bitsPerValue);
+            
+            if (++slotIndex == valuesPerInt) {
+                slotIndex = 0;
+                intIndex++;
+            }
         }
         
         return compressed;
@@ -41,30 +53,55 @@ public class NonOverlappingBitPacking extends AbstractBitPacking {
     
     @Override
     protected int[] performDecompression(int[] compressed, int originalSize) {
-        this.valuesPerInt = 32 / this.bitsPerValue;
+        configureWidth(this.bitsPerValue);
         int[] decompressed = new int[originalSize];
-        
-        for (int i = 0; i < originalSize; i++) {
-            int intIndex = i / valuesPerInt;
-            int slotIndex = i % valuesPerInt;
-            int bitOffset = slotIndex * this.bitsPerValue;
-            
-            decompressed[i] = BitUtils.extractBitsNonOverlapping(compressed, intIndex, bitOffset, this.bitsPerValue);
-        }
-        
+        unpack(compressed, 0, decompressed);
         return decompressed;
     }
     
     @Override
     protected int performGet(int index) {
-        if (valuesPerInt == 0) {
-            valuesPerInt = 32 / bitsPerValue;
-        }
-        
         int intIndex = index / valuesPerInt;
         int slotIndex = index % valuesPerInt;
         int bitOffset = slotIndex * bitsPerValue;
+        ensureVerified(intIndex, intIndex);
         
-        return BitUtils.extractBitsNonOverlapping(compressedData, intIndex, bitOffset, bitsPerValue);
+        return decodeValue(BitUtils.extractBitsNonOverlapping(compressedData, intIndex, bitOffset, bitsPerValue));
+    }
+    
+    @Override
+    protected void performGetRange(int fromIndex, int[] out) {
+        ensureVerified(fromIndex / valuesPerInt, (fromIndex + out.length - 1) / valuesPerInt);
+        unpack(compressedData, fromIndex, out);
+    }
+    
+    // decode out.length values starting at fromIndex ~ width subclasses replace this loop
+    protected void unpack(int[] data, int fromIndex, int[] out) {
+        int intIndex = fromIndex / valuesPerInt;
+        int slotIndex = fromIndex % valuesPerInt;
+        
+        // walk slots in order ~ same as compression
+        for (int i = 0; i < out.length; i++) {
+            int bitOffset = slotIndex * bitsPerValue;
+            out[i] = decodeValue(BitUtils.extractBitsNonOverlapping(data, intIndex, bitOffset, bitsPerValue));
+            
+            if (++slotIndex == valuesPerInt) {
+                slotIndex = 0;
+                intIndex++;
+            }
+        }
+    }
+    
+    @Override
+    protected void restoreState(int[] parameters) {
+        configureWidth(bitsPerValue);
+    }
+    
+    private void configureWidth(int bitsPerValue) {
+        this.valuesPerInt = 32 / bitsPerValue;
+        
+        if (valuesPerInt == 0) {
+            throw new IllegalStateException("values require more than 32 bits");
+        }
     }
 }
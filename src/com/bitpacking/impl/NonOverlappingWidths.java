@@ -0,0 +1,852 @@
+package com.bitpacking.impl;
+
+// GENERATED by tools/GenerateWidthCodecs.java ~ do not edit, rerun the generator
+
+
+  // one final NON_OVERLAPPING codec per bit width, picked by BitPackingFactory
+ // width, slot count, masks and shifts are literals ~ no divide by a field
+
+public final class NonOverlappingWidths {
+
+    private NonOverlappingWidths() {}
+
+    // codec fixed at this width ~ compress rejects data that needs more bits
+    public static NonOverlappingBitPacking forWidth(int bitsPerValue) {
+        switch (bitsPerValue) {
+            case 1: return new W1();
+            case 2: return new W2();
+            case 3: return new W3();
+            case 4: return new W4();
+            case 5: return new W5();
+            case 6: return new W6();
+            case 7: return new W7();
+            case 8: return new W8();
+            case 9: return new W9();
+            case 10: return new W10();
+            case 11: return new W11();
+            case 12: return new W12();
+            case 13: return new W13();
+            case 14: return new W14();
+            case 15: return new W15();
+            case 16: return new W16();
+            case 17: return new W17();
+            case 18: return new W18();
+            case 19: return new W19();
+            case 20: return new W20();
+            case 21: return new W21();
+            case 22: return new W22();
+            case 23: return new W23();
+            case 24: return new W24();
+            case 25: return new W25();
+            case 26: return new W26();
+            case 27: return new W27();
+            case 28: return new W28();
+            case 29: return new W29();
+            case 30: return new W30();
+            case 31: return new W31();
+            case 32: return new W32();
+            default:
+                throw new IllegalArgumentException("bit width must be 1..32: " + bitsPerValue);
+        }
+    }
+
+    // 1 bit, 32 per int
+    static final class W1 extends NonOverlappingBitPacking {
+        W1() {
+            super(1);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 5;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> (index & 31)) & 0x1);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 5;
+            int shift = fromIndex & 31;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x1);
+                shift += 1;
+                if (shift == 32) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 2 bits, 16 per int
+    static final class W2 extends NonOverlappingBitPacking {
+        W2() {
+            super(2);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 4;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 15) * 2)) & 0x3);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 4;
+            int shift = (fromIndex & 15) * 2;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x3);
+                shift += 2;
+                if (shift == 32) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 3 bits, 10 per int
+    static final class W3 extends NonOverlappingBitPacking {
+        W3() {
+            super(3);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index / 10;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index % 10) * 3)) & 0x7);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex / 10;
+            int shift = (fromIndex % 10) * 3;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x7);
+                shift += 3;
+                if (shift == 30) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 4 bits, 8 per int
+    static final class W4 extends NonOverlappingBitPacking {
+        W4() {
+            super(4);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 3;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 7) * 4)) & 0xF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 3;
+            int shift = (fromIndex & 7) * 4;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0xF);
+                shift += 4;
+                if (shift == 32) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 5 bits, 6 per int
+    static final class W5 extends NonOverlappingBitPacking {
+        W5() {
+            super(5);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index / 6;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index % 6) * 5)) & 0x1F);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex / 6;
+            int shift = (fromIndex % 6) * 5;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x1F);
+                shift += 5;
+                if (shift == 30) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 6 bits, 5 per int
+    static final class W6 extends NonOverlappingBitPacking {
+        W6() {
+            super(6);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index / 5;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index % 5) * 6)) & 0x3F);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex / 5;
+            int shift = (fromIndex % 5) * 6;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x3F);
+                shift += 6;
+                if (shift == 30) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 7 bits, 4 per int
+    static final class W7 extends NonOverlappingBitPacking {
+        W7() {
+            super(7);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 2;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 3) * 7)) & 0x7F);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 2;
+            int shift = (fromIndex & 3) * 7;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x7F);
+                shift += 7;
+                if (shift == 28) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 8 bits, 4 per int
+    static final class W8 extends NonOverlappingBitPacking {
+        W8() {
+            super(8);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 2;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 3) * 8)) & 0xFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 2;
+            int shift = (fromIndex & 3) * 8;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0xFF);
+                shift += 8;
+                if (shift == 32) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 9 bits, 3 per int
+    static final class W9 extends NonOverlappingBitPacking {
+        W9() {
+            super(9);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index / 3;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index % 3) * 9)) & 0x1FF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex / 3;
+            int shift = (fromIndex % 3) * 9;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x1FF);
+                shift += 9;
+                if (shift == 27) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 10 bits, 3 per int
+    static final class W10 extends NonOverlappingBitPacking {
+        W10() {
+            super(10);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index / 3;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index % 3) * 10)) & 0x3FF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex / 3;
+            int shift = (fromIndex % 3) * 10;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x3FF);
+                shift += 10;
+                if (shift == 30) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 11 bits, 2 per int
+    static final class W11 extends NonOverlappingBitPacking {
+        W11() {
+            super(11);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 1;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 1) * 11)) & 0x7FF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 1;
+            int shift = (fromIndex & 1) * 11;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x7FF);
+                shift += 11;
+                if (shift == 22) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 12 bits, 2 per int
+    static final class W12 extends NonOverlappingBitPacking {
+        W12() {
+            super(12);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 1;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 1) * 12)) & 0xFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 1;
+            int shift = (fromIndex & 1) * 12;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0xFFF);
+                shift += 12;
+                if (shift == 24) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 13 bits, 2 per int
+    static final class W13 extends NonOverlappingBitPacking {
+        W13() {
+            super(13);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 1;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 1) * 13)) & 0x1FFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 1;
+            int shift = (fromIndex & 1) * 13;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x1FFF);
+                shift += 13;
+                if (shift == 26) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 14 bits, 2 per int
+    static final class W14 extends NonOverlappingBitPacking {
+        W14() {
+            super(14);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 1;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 1) * 14)) & 0x3FFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 1;
+            int shift = (fromIndex & 1) * 14;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x3FFF);
+                shift += 14;
+                if (shift == 28) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 15 bits, 2 per int
+    static final class W15 extends NonOverlappingBitPacking {
+        W15() {
+            super(15);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 1;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 1) * 15)) & 0x7FFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 1;
+            int shift = (fromIndex & 1) * 15;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0x7FFF);
+                shift += 15;
+                if (shift == 30) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 16 bits, 2 per int
+    static final class W16 extends NonOverlappingBitPacking {
+        W16() {
+            super(16);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int intIndex = index >>> 1;
+            ensureVerified(intIndex, intIndex);
+            return decodeValue((compressedData[intIndex] >>> ((index & 1) * 16)) & 0xFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int intIndex = fromIndex >>> 1;
+            int shift = (fromIndex & 1) * 16;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue((data[intIndex] >>> shift) & 0xFFFF);
+                shift += 16;
+                if (shift == 32) {
+                    shift = 0;
+                    intIndex++;
+                }
+            }
+        }
+    }
+
+    // 17 bits, 1 per int
+    static final class W17 extends NonOverlappingBitPacking {
+        W17() {
+            super(17);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x1FFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x1FFFF);
+            }
+        }
+    }
+
+    // 18 bits, 1 per int
+    static final class W18 extends NonOverlappingBitPacking {
+        W18() {
+            super(18);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x3FFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x3FFFF);
+            }
+        }
+    }
+
+    // 19 bits, 1 per int
+    static final class W19 extends NonOverlappingBitPacking {
+        W19() {
+            super(19);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x7FFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x7FFFF);
+            }
+        }
+    }
+
+    // 20 bits, 1 per int
+    static final class W20 extends NonOverlappingBitPacking {
+        W20() {
+            super(20);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0xFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0xFFFFF);
+            }
+        }
+    }
+
+    // 21 bits, 1 per int
+    static final class W21 extends NonOverlappingBitPacking {
+        W21() {
+            super(21);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x1FFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x1FFFFF);
+            }
+        }
+    }
+
+    // 22 bits, 1 per int
+    static final class W22 extends NonOverlappingBitPacking {
+        W22() {
+            super(22);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x3FFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x3FFFFF);
+            }
+        }
+    }
+
+    // 23 bits, 1 per int
+    static final class W23 extends NonOverlappingBitPacking {
+        W23() {
+            super(23);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x7FFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x7FFFFF);
+            }
+        }
+    }
+
+    // 24 bits, 1 per int
+    static final class W24 extends NonOverlappingBitPacking {
+        W24() {
+            super(24);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0xFFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0xFFFFFF);
+            }
+        }
+    }
+
+    // 25 bits, 1 per int
+    static final class W25 extends NonOverlappingBitPacking {
+        W25() {
+            super(25);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x1FFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x1FFFFFF);
+            }
+        }
+    }
+
+    // 26 bits, 1 per int
+    static final class W26 extends NonOverlappingBitPacking {
+        W26() {
+            super(26);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x3FFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x3FFFFFF);
+            }
+        }
+    }
+
+    // 27 bits, 1 per int
+    static final class W27 extends NonOverlappingBitPacking {
+        W27() {
+            super(27);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x7FFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x7FFFFFF);
+            }
+        }
+    }
+
+    // 28 bits, 1 per int
+    static final class W28 extends NonOverlappingBitPacking {
+        W28() {
+            super(28);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0xFFFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0xFFFFFFF);
+            }
+        }
+    }
+
+    // 29 bits, 1 per int
+    static final class W29 extends NonOverlappingBitPacking {
+        W29() {
+            super(29);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x1FFFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x1FFFFFFF);
+            }
+        }
+    }
+
+    // 30 bits, 1 per int
+    static final class W30 extends NonOverlappingBitPacking {
+        W30() {
+            super(30);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x3FFFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x3FFFFFFF);
+            }
+        }
+    }
+
+    // 31 bits, 1 per int
+    static final class W31 extends NonOverlappingBitPacking {
+        W31() {
+            super(31);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index] & 0x7FFFFFFF);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i] & 0x7FFFFFFF);
+            }
+        }
+    }
+
+    // 32 bits, 1 per int
+    static final class W32 extends NonOverlappingBitPacking {
+        W32() {
+            super(32);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index]);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i]);
+            }
+        }
+    }
+}
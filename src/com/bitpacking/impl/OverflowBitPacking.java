@@ -4,12 +4,14 @@ import com.bitpacking.core.AbstractBitPacking;
 import com.bitpacking.core.CompressionType;
 import com.bitpacking.utils.BitUtils;
 
+import java.util.Arrays;
+
  
  // ** overflow bit packing ~ two-tier storage
 
  // ** main storage for small values , overflow area for outliers..
  
-public class OverflowBitPacking extends AbstractBitPacking {
+public final class OverflowBitPacking extends AbstractBitPacking {
     
     private int[] overflowArea;
     private int overflowThreshold;
@@ -43,7 +45,7 @@ public class OverflowBitPacking extends AbstractBitPacking {
             for (int i = 0; i < data.length; i++) {
                 int bitPosition = i * mainBits;
 
-                BitUtils.writeBitsOverlapping( compressed, bitPosition, data[i], mainBits);
+                BitUtils.writeBitsOverlapping( compressed, bitPosition, encodeValue(data[i]), mainBits);
             }
             
             return compressed;
@@ -63,10 +65,10 @@ public class OverflowBitPacking extends AbstractBitPacking {
         
         // compress
         for (int i = 0; i < data.length; i++) {
-            int value = data[i];
+            int value = encodeValue(data[i]);
             int bitPosition = i * totalMainBits;
             
-            if (value >= overflowThreshold) {
+            if (Integer.compareUnsigned(value, overflowThreshold) >= 0) {
                 // overflow: flag=1 ~ store index.
                 int encoded = (1 << mainBits) | overflowIndex;
                 BitUtils.writeBitsOverlapping(compressed, bitPosition, encoded, totalMainBits);
@@ -94,7 +96,7 @@ public class OverflowBitPacking extends AbstractBitPacking {
             for (int i = 0; i < originalSize; i++) {
                 int bitPosition = i * totalMainBits;
 
-                decompressed[i] = BitUtils.extractBitsOverlapping(compressed, bitPosition, totalMainBits);
+                decompressed[i] = decodeValue(BitUtils.extractBitsOverlapping(compressed, bitPosition, totalMainBits));
             }
             return decompressed;
         }
@@ -120,10 +122,13 @@ public class OverflowBitPacking extends AbstractBitPacking {
             
             if (flag == 1) {
                 // overflow value
-                decompressed[i] = overflow[payload];
+                if (payload >= overflowSize) {
+                    throw new IllegalStateException("overflow index out of range: " + payload);
+                }
+                decompressed[i] = decodeValue(overflow[payload]);
             } else {
                 // direct value
-                decompressed[i] = payload;
+                decompressed[i] = decodeValue(payload);
             }
         }
         
@@ -135,7 +140,8 @@ public class OverflowBitPacking extends AbstractBitPacking {
         // no overflow? simple
         if (overflowArea.length == 0) {
             int bitPosition = index * totalMainBits;
-            return BitUtils.extractBitsOverlapping(compressedData, bitPosition, totalMainBits);
+            ensureVerified(bitPosition >>> 5, (bitPosition + totalMainBits - 1) >>> 5);
+            return decodeValue(BitUtils.extractBitsOverlapping(compressedData, bitPosition, totalMainBits));
         }
         
         // with overflow
@@ -144,6 +150,7 @@ public class OverflowBitPacking extends AbstractBitPacking {
         int mainStorageSize = (mainStorageBits + 31) / 32;
         
         int bitPosition = index * totalMainBits;
+        ensureVerified(bitPosition >>> 5, (bitPosition + totalMainBits - 1) >>> 5);
 
         int encoded = BitUtils.extractBitsOverlapping(compressedData, bitPosition, totalMainBits);
         
@@ -152,17 +159,85 @@ public class OverflowBitPacking extends AbstractBitPacking {
         int payload = encoded & mask;
         
         if (flag == 1) {
-            return compressedData[mainStorageSize + payload];
+            // corrupt index would land outside the overflow area
+            if (payload >= overflowArea.length) {
+                throw new IllegalStateException("overflow index out of range: " + payload);
+            }
+            ensureVerified(mainStorageSize + payload, mainStorageSize + payload);
+            return decodeValue(compressedData[mainStorageSize + payload]);
         } else {
-            return payload;
+            return decodeValue(payload);
+        }
+    }
+    
+    @Override
+    protected void performGetRange(int fromIndex, int[] out) {
+        int bitPosition = fromIndex * totalMainBits;
+        ensureVerified(bitPosition >>> 5, (bitPosition + out.length * totalMainBits - 1) >>> 5);
+        
+        // no overflow? simple
+        if (overflowArea.length == 0) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(BitUtils.extractBitsOverlapping(compressedData, bitPosition, totalMainBits));
+                bitPosition += totalMainBits;
+            }
+            return;
+        }
+        
+        // layout computed once for the whole range
+        int mainStorageSize = (originalSize * totalMainBits + 31) / 32;
+        int mask = BitUtils.createMask(mainBits);
+        
+        for (int i = 0; i < out.length; i++) {
+            int encoded = BitUtils.extractBitsOverlapping(compressedData, bitPosition, totalMainBits);
+            int payload = encoded & mask;
+            bitPosition += totalMainBits;
+            
+            if (((encoded >>> mainBits) & 1) == 1) {
+                if (payload >= overflowArea.length) {
+                    throw new IllegalStateException("overflow index out of range: " + payload);
+                }
+                ensureVerified(mainStorageSize + payload, mainStorageSize + payload);
+                out[i] = decodeValue(compressedData[mainStorageSize + payload]);
+            } else {
+                out[i] = decodeValue(payload);
+            }
+        }
+    }
+    
+    @Override
+    public int[] getParameters() {
+        int[] parameters = Arrays.copyOf(super.getParameters(), BASE_PARAMETERS + 2);
+        parameters[BASE_PARAMETERS] = mainBits;
+        parameters[BASE_PARAMETERS + 1] = totalMainBits;
+        return parameters;
+    }
+    
+    @Override
+    protected void restoreState(int[] parameters) {
+        if (parameters.length < BASE_PARAMETERS + 2) {
+            throw new IllegalArgumentException("overflow needs mainBits and totalMainBits");
+        }
+        this.mainBits = parameters[BASE_PARAMETERS];
+        this.totalMainBits = parameters[BASE_PARAMETERS + 1];
+        
+        // overflow area sits after main storage
+        int mainStorageSize = (originalSize * totalMainBits + 31) / 32;
+        int overflowSize = totalMainBits > mainBits ? compressedData.length - mainStorageSize : 0;
+        if (overflowSize < 0) {
+            throw new IllegalArgumentException("compressed data shorter than main storage");
         }
+        this.overflowArea = new int[overflowSize];
+        System.arraycopy(compressedData, mainStorageSize, overflowArea, 0, overflowSize);
     }
     
     // find optimal overflow threshold
     private OverflowStats analyzeOverflow(int[] data) {
+        // thresholds apply to encoded values ~ compare unsigned
         int max = 0;
         for (int val : data) {
-            if (val > max) max = val;
+            int encoded = encodeValue(val);
+            if (Integer.compareUnsigned(encoded, max) > 0) max = encoded;
         }
         
         int maxBits = BitUtils.bitsNeeded(max);
@@ -178,7 +253,7 @@ public class OverflowBitPacking extends AbstractBitPacking {
             int overflowCount = 0;
             
             for (int val : data) {
-                if (val >= threshold) overflowCount++;
+                if (Integer.compareUnsigned(encodeValue(val), threshold) >= 0) overflowCount++;
             }
             
             int mainBits = thresholdBits;
@@ -10,6 +10,15 @@ import com.bitpacking.utils.BitUtils;
  
 public class OverlappingBitPacking extends AbstractBitPacking {
     
+    public OverlappingBitPacking() {
+        super();
+    }
+    
+    // per-width subclasses ~ see OverlappingWidths
+    protected OverlappingBitPacking(int fixedBitsPerValue) {
+        super(fixedBitsPerValue);
+    }
+    
     @Override
     public CompressionType getType() {
         return CompressionType.OVERLAPPING;
@@ -24,7 +33,7 @@ public class OverlappingBitPacking extends AbstractBitPacking {
         
         for (int i = 0; i < data.length; i++) {
             int bitPosition = i * bitsPerValue;
-            BitUtils.writeBitsOverlapping(compressed,  bitPosition , data[i] , bitsPerValue);
+            BitUtils.writeBitsOverlapping(compressed,  bitPosition , encodeValue(data[i]) , bitsPerValue);
         }
         
         return compressed;
@@ -33,19 +42,30 @@ public class OverlappingBitPacking extends AbstractBitPacking {
     @Override
     protected int[] performDecompression(int[] compressed, int originalSize) {
         int[] decompressed = new int[originalSize];
-        
-        for (int i = 0;  i < originalSize;   i++) {
-            int bitPosition =  i * this.bitsPerValue;
-
-            decompressed[i] =   BitUtils.extractBitsOverlapping(compressed, bitPosition, this.bitsPerValue);
-        }
-        
+        unpack(compressed, 0, decompressed);
         return decompressed;
     }
     
     @Override
     protected int performGet(int index) {
         int bitPosition =  index * bitsPerValue;
-        return BitUtils.extractBitsOverlapping(compressedData,  bitPosition, bitsPerValue);
+        ensureVerified(bitPosition >>> 5, (bitPosition + bitsPerValue - 1) >>> 5);
+        return decodeValue(BitUtils.extractBitsOverlapping(compressedData,  bitPosition, bitsPerValue));
+    }
+    
+    @Override
+    protected void performGetRange(int fromIndex, int[] out) {
+        int bitPosition = fromIndex * bitsPerValue;
+        ensureVerified(bitPosition >>> 5, (bitPosition + out.length * bitsPerValue - 1) >>> 5);
+        unpack(compressedData, fromIndex, out);
+    }
+    
+    // decode out.length values starting at fromIndex ~ width subclasses replace this loop
+    protected void unpack(int[] data, int fromIndex, int[] out) {
+        int bitPosition = fromIndex * bitsPerValue;
+        for (int i = 0; i < out.length; i++) {
+            out[i] = decodeValue(BitUtils.extractBitsOverlapping(data, bitPosition, bitsPerValue));
+            bitPosition += bitsPerValue;
+        }
     }
 }
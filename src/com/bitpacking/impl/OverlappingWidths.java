@@ -0,0 +1,1107 @@
+package com.bitpacking.impl;
+
+// GENERATED by tools/GenerateWidthCodecs.java ~ do not edit, rerun the generator
+
+
+  // one final OVERLAPPING codec per bit width, picked by BitPackingFactory
+ // width, masks and the straddle test are literals ~ no straddle branch when the width divides 32
+
+public final class OverlappingWidths {
+
+    private OverlappingWidths() {}
+
+    // codec fixed at this width ~ compress rejects data that needs more bits
+    public static OverlappingBitPacking forWidth(int bitsPerValue) {
+        switch (bitsPerValue) {
+            case 1: return new W1();
+            case 2: return new W2();
+            case 3: return new W3();
+            case 4: return new W4();
+            case 5: return new W5();
+            case 6: return new W6();
+            case 7: return new W7();
+            case 8: return new W8();
+            case 9: return new W9();
+            case 10: return new W10();
+            case 11: return new W11();
+            case 12: return new W12();
+            case 13: return new W13();
+            case 14: return new W14();
+            case 15: return new W15();
+            case 16: return new W16();
+            case 17: return new W17();
+            case 18: return new W18();
+            case 19: return new W19();
+            case 20: return new W20();
+            case 21: return new W21();
+            case 22: return new W22();
+            case 23: return new W23();
+            case 24: return new W24();
+            case 25: return new W25();
+            case 26: return new W26();
+            case 27: return new W27();
+            case 28: return new W28();
+            case 29: return new W29();
+            case 30: return new W30();
+            case 31: return new W31();
+            case 32: return new W32();
+            default:
+                throw new IllegalArgumentException("bit width must be 1..32: " + bitsPerValue);
+        }
+    }
+
+    // 1 bit
+    static final class W1 extends OverlappingBitPacking {
+        W1() {
+            super(1);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 1;
+            ensureVerified(bitPosition >>> 5, bitPosition >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 1;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 1;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            return (data[intIndex] >>> bitOffset) & 0x1;
+        }
+    }
+
+    // 2 bits
+    static final class W2 extends OverlappingBitPacking {
+        W2() {
+            super(2);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 2;
+            ensureVerified(bitPosition >>> 5, bitPosition >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 2;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 2;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            return (data[intIndex] >>> bitOffset) & 0x3;
+        }
+    }
+
+    // 3 bits, values can span two ints
+    static final class W3 extends OverlappingBitPacking {
+        W3() {
+            super(3);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 3;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 2) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 3;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 3;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 29) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7;
+        }
+    }
+
+    // 4 bits
+    static final class W4 extends OverlappingBitPacking {
+        W4() {
+            super(4);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 4;
+            ensureVerified(bitPosition >>> 5, bitPosition >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 4;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 4;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            return (data[intIndex] >>> bitOffset) & 0xF;
+        }
+    }
+
+    // 5 bits, values can span two ints
+    static final class W5 extends OverlappingBitPacking {
+        W5() {
+            super(5);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 5;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 4) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 5;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 5;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 27) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1F;
+        }
+    }
+
+    // 6 bits, values can span two ints
+    static final class W6 extends OverlappingBitPacking {
+        W6() {
+            super(6);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 6;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 5) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 6;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 6;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 26) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3F;
+        }
+    }
+
+    // 7 bits, values can span two ints
+    static final class W7 extends OverlappingBitPacking {
+        W7() {
+            super(7);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 7;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 6) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 7;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 7;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 25) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7F;
+        }
+    }
+
+    // 8 bits
+    static final class W8 extends OverlappingBitPacking {
+        W8() {
+            super(8);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 8;
+            ensureVerified(bitPosition >>> 5, bitPosition >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 8;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 8;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            return (data[intIndex] >>> bitOffset) & 0xFF;
+        }
+    }
+
+    // 9 bits, values can span two ints
+    static final class W9 extends OverlappingBitPacking {
+        W9() {
+            super(9);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 9;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 8) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 9;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 9;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 23) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1FF;
+        }
+    }
+
+    // 10 bits, values can span two ints
+    static final class W10 extends OverlappingBitPacking {
+        W10() {
+            super(10);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 10;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 9) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 10;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 10;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 22) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3FF;
+        }
+    }
+
+    // 11 bits, values can span two ints
+    static final class W11 extends OverlappingBitPacking {
+        W11() {
+            super(11);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 11;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 10) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 11;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 11;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 21) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7FF;
+        }
+    }
+
+    // 12 bits, values can span two ints
+    static final class W12 extends OverlappingBitPacking {
+        W12() {
+            super(12);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 12;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 11) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 12;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 12;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 20) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0xFFF;
+        }
+    }
+
+    // 13 bits, values can span two ints
+    static final class W13 extends OverlappingBitPacking {
+        W13() {
+            super(13);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 13;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 12) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 13;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 13;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 19) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1FFF;
+        }
+    }
+
+    // 14 bits, values can span two ints
+    static final class W14 extends OverlappingBitPacking {
+        W14() {
+            super(14);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 14;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 13) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 14;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 14;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 18) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3FFF;
+        }
+    }
+
+    // 15 bits, values can span two ints
+    static final class W15 extends OverlappingBitPacking {
+        W15() {
+            super(15);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 15;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 14) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 15;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 15;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 17) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7FFF;
+        }
+    }
+
+    // 16 bits
+    static final class W16 extends OverlappingBitPacking {
+        W16() {
+            super(16);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 16;
+            ensureVerified(bitPosition >>> 5, bitPosition >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 16;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 16;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            return (data[intIndex] >>> bitOffset) & 0xFFFF;
+        }
+    }
+
+    // 17 bits, values can span two ints
+    static final class W17 extends OverlappingBitPacking {
+        W17() {
+            super(17);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 17;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 16) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 17;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 17;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 15) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1FFFF;
+        }
+    }
+
+    // 18 bits, values can span two ints
+    static final class W18 extends OverlappingBitPacking {
+        W18() {
+            super(18);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 18;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 17) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 18;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 18;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 14) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3FFFF;
+        }
+    }
+
+    // 19 bits, values can span two ints
+    static final class W19 extends OverlappingBitPacking {
+        W19() {
+            super(19);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 19;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 18) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 19;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 19;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 13) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7FFFF;
+        }
+    }
+
+    // 20 bits, values can span two ints
+    static final class W20 extends OverlappingBitPacking {
+        W20() {
+            super(20);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 20;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 19) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 20;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 20;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 12) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0xFFFFF;
+        }
+    }
+
+    // 21 bits, values can span two ints
+    static final class W21 extends OverlappingBitPacking {
+        W21() {
+            super(21);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 21;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 20) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 21;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 21;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 11) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1FFFFF;
+        }
+    }
+
+    // 22 bits, values can span two ints
+    static final class W22 extends OverlappingBitPacking {
+        W22() {
+            super(22);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 22;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 21) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 22;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 22;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 10) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3FFFFF;
+        }
+    }
+
+    // 23 bits, values can span two ints
+    static final class W23 extends OverlappingBitPacking {
+        W23() {
+            super(23);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 23;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 22) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 23;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 23;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 9) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7FFFFF;
+        }
+    }
+
+    // 24 bits, values can span two ints
+    static final class W24 extends OverlappingBitPacking {
+        W24() {
+            super(24);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 24;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 23) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 24;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 24;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 8) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0xFFFFFF;
+        }
+    }
+
+    // 25 bits, values can span two ints
+    static final class W25 extends OverlappingBitPacking {
+        W25() {
+            super(25);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 25;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 24) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 25;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 25;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 7) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1FFFFFF;
+        }
+    }
+
+    // 26 bits, values can span two ints
+    static final class W26 extends OverlappingBitPacking {
+        W26() {
+            super(26);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 26;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 25) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 26;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 26;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 6) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3FFFFFF;
+        }
+    }
+
+    // 27 bits, values can span two ints
+    static final class W27 extends OverlappingBitPacking {
+        W27() {
+            super(27);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 27;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 26) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 27;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 27;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 5) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7FFFFFF;
+        }
+    }
+
+    // 28 bits, values can span two ints
+    static final class W28 extends OverlappingBitPacking {
+        W28() {
+            super(28);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 28;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 27) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 28;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 28;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 4) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0xFFFFFFF;
+        }
+    }
+
+    // 29 bits, values can span two ints
+    static final class W29 extends OverlappingBitPacking {
+        W29() {
+            super(29);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 29;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 28) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 29;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 29;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 3) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x1FFFFFFF;
+        }
+    }
+
+    // 30 bits, values can span two ints
+    static final class W30 extends OverlappingBitPacking {
+        W30() {
+            super(30);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 30;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 29) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 30;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 30;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 2) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x3FFFFFFF;
+        }
+    }
+
+    // 31 bits, values can span two ints
+    static final class W31 extends OverlappingBitPacking {
+        W31() {
+            super(31);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            int bitPosition = index * 31;
+            ensureVerified(bitPosition >>> 5, (bitPosition + 30) >>> 5);
+            return decodeValue(extract(compressedData, bitPosition));
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            int bitPosition = fromIndex * 31;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(extract(data, bitPosition));
+                bitPosition += 31;
+            }
+        }
+
+        private static int extract(int[] data, int bitPosition) {
+            int intIndex = bitPosition >>> 5;
+            int bitOffset = bitPosition & 31;
+            int value = data[intIndex] >>> bitOffset;
+            if (bitOffset > 1) {
+                value |= data[intIndex + 1] << (32 - bitOffset);
+            }
+            return value & 0x7FFFFFFF;
+        }
+    }
+
+    // 32 bits
+    static final class W32 extends OverlappingBitPacking {
+        W32() {
+            super(32);
+        }
+
+        @Override
+        public int get(int index) {
+            checkIndex(index);
+            ensureVerified(index, index);
+            return decodeValue(compressedData[index]);
+        }
+
+        @Override
+        protected void unpack(int[] data, int fromIndex, int[] out) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = decodeValue(data[fromIndex + i]);
+            }
+        }
+    }
+}
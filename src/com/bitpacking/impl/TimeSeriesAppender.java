@@ -0,0 +1,99 @@
+package com.bitpacking.impl;
+
+import java.util.Arrays;
+
+
+ // ** streaming builder for the TIMESERIES layout
+
+ // ** values collect in an open block, full blocks are encoded onto the stream
+ // ** toCompressed() gives the same array TimeSeriesBitPacking.compress would
+
+public final class TimeSeriesAppender {
+
+    private int[] stream = new int[16];
+    private int streamBits;
+
+    private int[] blockOffsets = new int[8]; // bit offset of each sealed block
+    private int blockCount;
+
+    private final int[] tail = new int[TimeSeriesCodec.BLOCK_SIZE];
+    private int tailCount;
+
+    public void append(int value) {
+        tail[tailCount++] = value;
+        if (tailCount == TimeSeriesCodec.BLOCK_SIZE) {
+            sealTail();
+        }
+    }
+
+    public void appendAll(int[] values) {
+        for (int value : values) {
+            append(value);
+        }
+    }
+
+    public int size() {
+        return blockCount * TimeSeriesCodec.BLOCK_SIZE + tailCount;
+    }
+
+    // live read ~ sealed blocks decode up to the index, open block is direct
+    public int get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index out of bounds");
+        }
+        int block = index >>> TimeSeriesCodec.BLOCK_SHIFT;
+        int slot = index & (TimeSeriesCodec.BLOCK_SIZE - 1);
+
+        if (block == blockCount) {
+            return tail[slot];
+        }
+        return TimeSeriesCodec.readBlock(stream, blockOffsets[block], slot + 1, null, 0);
+    }
+
+    // layout: block count | block bit offsets | stream ~ open block is encoded too
+    public int[] toCompressed() {
+        if (size() == 0) {
+            throw new IllegalStateException("nothing appended yet");
+        }
+
+        int totalBlocks = blockCount + (tailCount > 0 ? 1 : 0);
+        int totalBits = streamBits + (tailCount > 0 ? TimeSeriesCodec.blockBits(tail, 0, tailCount) : 0);
+        int streamBase = 1 + totalBlocks;
+        int[] compressed = new int[streamBase + (totalBits + 31) / 32];
+
+        compressed[0] = totalBlocks;
+        System.arraycopy(blockOffsets, 0, compressed, 1, blockCount);
+        System.arraycopy(stream, 0, compressed, streamBase, (streamBits + 31) / 32);
+
+        if (tailCount > 0) {
+            compressed[1 + blockCount] = streamBits;
+            TimeSeriesCodec.writeBlock(tail, 0, tailCount, compressed, streamBase * 32 + streamBits);
+        }
+        return compressed;
+    }
+
+    // packer over everything appended so far ~ appending can continue
+    public TimeSeriesBitPacking toBitPacking() {
+        int[] compressed = toCompressed();
+        TimeSeriesBitPacking packer = new TimeSeriesBitPacking();
+        packer.load(compressed, size(), new int[] { 32, 0, 0 }, null);
+        return packer;
+    }
+
+    private void sealTail() {
+        int bits = TimeSeriesCodec.blockBits(tail, 0, tailCount);
+
+        // grow by doubling ~ +1 word so writes never run off the end
+        int wordsNeeded = (streamBits + bits + 31) / 32 + 1;
+        if (wordsNeeded > stream.length) {
+            stream = Arrays.copyOf(stream, Math.max(wordsNeeded, stream.length * 2));
+        }
+        if (blockCount == blockOffsets.length) {
+            blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+        }
+
+        blockOffsets[blockCount++] = streamBits;
+        streamBits = TimeSeriesCodec.writeBlock(tail, 0, tailCount, stream, streamBits);
+        tailCount = 0;
+    }
+}
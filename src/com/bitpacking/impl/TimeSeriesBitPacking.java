@@ -0,0 +1,183 @@
+package com.bitpacking.impl;
+
+import com.bitpacking.core.AbstractBitPacking;
+import com.bitpacking.core.CompressionType;
+import com.bitpacking.utils.BitUtils;
+
+
+ // ** time-series packing ~ delta-of-delta for timestamps, XOR for gauges
+
+ // ** blocks of 128 values, each block picks the smaller mode..
+ // ** block offsets up front make every block seekable
+
+public final class TimeSeriesBitPacking extends AbstractBitPacking {
+
+    public static final int BLOCK_SIZE = TimeSeriesCodec.BLOCK_SIZE;
+
+    private int blockCount;
+    private int streamBase; // first word of the stream
+
+    @Override
+    public CompressionType getType() {
+        return CompressionType.TIMESERIES;
+    }
+
+    @Override
+    protected int[] performCompression(int[] data, int bitsPerValue) {
+        // wrapping deltas handle signed values ~ no zigzag/offset pass needed
+        TimeSeriesAppender appender = new TimeSeriesAppender();
+        appender.appendAll(data);
+
+        int[] compressed = appender.toCompressed();
+        readHeader(compressed, data.length);
+        return compressed;
+    }
+
+    @Override
+    protected int[] performDecompression(int[] compressed, int originalSize) {
+        int blocks = checkedBlockCount(compressed, originalSize);
+        int base = 1 + blocks;
+        int[] decompressed = new int[originalSize];
+
+        for (int block = 0; block < blocks; block++) {
+            int from = block << TimeSeriesCodec.BLOCK_SHIFT;
+            int count = Math.min(BLOCK_SIZE, originalSize - from);
+            TimeSeriesCodec.readBlock(compressed, base * 32 + compressed[1 + block], count, decompressed, from);
+        }
+        return decompressed;
+    }
+
+    @Override
+    protected int performGet(int index) {
+        int block = index >>> TimeSeriesCodec.BLOCK_SHIFT;
+        int slot = index & (BLOCK_SIZE - 1);
+        ensureVerified(1 + block, 1 + block); // block offset
+        int bitPosition = blockStart(block);
+
+        // whole block up to the value ~ its words end where the next block starts
+        ensureVerified(bitPosition >>> 5, blockEndWord(block));
+        return TimeSeriesCodec.readBlock(compressedData, bitPosition, slot + 1, null, 0);
+    }
+
+    // effective bits per value, header included
+    @Override
+    public int getBitsPerValue() {
+        if (compressedData == null) return 0;
+        return (int) Math.ceil(compressedData.length * 32.0 / originalSize);
+    }
+
+    // zigzag/offset from the base class do not apply here
+    @Override
+    public int[] getParameters() {
+        if (compressedData == null) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+        return new int[] { getBitsPerValue(), 0, 0 };
+    }
+
+    @Override
+    protected void restoreState(int[] parameters) {
+        readHeader(compressedData, originalSize);
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    // decode one block ~ BLOCK_SIZE values, fewer in the last block
+    public int[] decodeBlock(int block) {
+        if (compressedData == null) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+        if (block < 0 || block >= blockCount) {
+            throw new IndexOutOfBoundsException("block out of bounds");
+        }
+        int from = block << TimeSeriesCodec.BLOCK_SHIFT;
+        int[] values = new int[Math.min(BLOCK_SIZE, originalSize - from)];
+
+        ensureVerified(1 + block, 1 + block);
+        ensureVerified(blockStart(block) >>> 5, blockEndWord(block));
+        TimeSeriesCodec.readBlock(compressedData, blockStart(block), values.length, values, 0);
+        return values;
+    }
+
+    // only the blocks touched are decoded ~ each one once
+    @Override
+    protected void performGetRange(int fromIndex, int[] out) {
+        int toIndex = fromIndex + out.length;
+        int index = fromIndex;
+
+        while (index < toIndex) {
+            int block = index >>> TimeSeriesCodec.BLOCK_SHIFT;
+            int blockFrom = block << TimeSeriesCodec.BLOCK_SHIFT;
+            int blockLength = Math.min(BLOCK_SIZE, originalSize - blockFrom);
+            int count = Math.min(blockFrom + blockLength, toIndex) - index;
+
+            if (index == blockFrom && count == blockLength) {
+                // whole block ~ decode straight into the output
+                ensureVerified(1 + block, 1 + block);
+                ensureVerified(blockStart(block) >>> 5, blockEndWord(block));
+                TimeSeriesCodec.readBlock(compressedData, blockStart(block), blockLength, out, index - fromIndex);
+            } else {
+                int[] decoded = decodeBlock(block);
+                System.arraycopy(decoded, index - blockFrom, out, index - fromIndex, count);
+            }
+            index += count;
+        }
+    }
+
+    // first index whose value is >= target ~ values must be non-decreasing (timestamps)
+    public int lowerBound(int target) {
+        if (compressedData == null) {
+            throw new IllegalStateException("no data compressed yet");
+        }
+
+        // binary search on block first values ~ stored raw, no decoding
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (firstValue(mid) < target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // then scan the one block that can hold the boundary
+        int[] decoded = decodeBlock(low);
+        int from = low << TimeSeriesCodec.BLOCK_SHIFT;
+        for (int i = 0; i < decoded.length; i++) {
+            if (decoded[i] >= target) return from + i;
+        }
+        return from + decoded.length;
+    }
+
+    private int firstValue(int block) {
+        return BitUtils.extractBitsOverlapping(compressedData, blockStart(block) + 1, 32);
+    }
+
+    private int blockStart(int block) {
+        return streamBase * 32 + compressedData[1 + block];
+    }
+
+    private int blockEndWord(int block) {
+        if (block + 1 < blockCount) {
+            return (blockStart(block + 1) - 1) >>> 5;
+        }
+        return compressedData.length - 1;
+    }
+
+    private void readHeader(int[] compressed, int originalSize) {
+        this.blockCount = checkedBlockCount(compressed, originalSize);
+        this.streamBase = 1 + blockCount;
+    }
+
+    private static int checkedBlockCount(int[] compressed, int originalSize) {
+        int expected = (originalSize + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (compressed.length == 0 || compressed[0] != expected || compressed.length < 1 + expected) {
+            throw new IllegalArgumentException("block count does not match original size");
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,152 @@
+package com.bitpacking.impl;
+
+import com.bitpacking.utils.BitUtils;
+
+
+ // ** block codec shared by TimeSeriesBitPacking and TimeSeriesAppender
+
+ // ** block = mode bit | first value (32 bits) | one entry per remaining value
+ // ** mode 0 ~ delta-of-delta for timestamps, mode 1 ~ XOR for gauges
+
+final class TimeSeriesCodec {
+
+    static final int BLOCK_SHIFT = 7;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT; // values per block
+
+    private static final int MODE_DELTA_OF_DELTA = 0;
+    private static final int MODE_XOR = 1;
+
+    // delta-of-delta buckets ~ '0', '10', '110', '1110', '1111' + payload
+    private static final int[] BUCKET_BITS = {0, 7, 9, 12, 32};
+
+    private TimeSeriesCodec() {}
+
+    // encode a block with whichever mode is smaller ~ returns end bit position
+    static int writeBlock(int[] values, int from, int count, int[] out, int bitPosition) {
+        int dodBits = encode(values, from, count, MODE_DELTA_OF_DELTA, null, 0);
+        int xorBits = encode(values, from, count, MODE_XOR, null, 0);
+        int mode = dodBits <= xorBits ? MODE_DELTA_OF_DELTA : MODE_XOR;
+        return encode(values, from, count, mode, out, bitPosition);
+    }
+
+    // bits writeBlock would use
+    static int blockBits(int[] values, int from, int count) {
+        return Math.min(encode(values, from, count, MODE_DELTA_OF_DELTA, null, 0),
+                encode(values, from, count, MODE_XOR, null, 0));
+    }
+
+    // decode count values of the block at bitPosition ~ out may be null, returns the last one
+    static int readBlock(int[] data, int bitPosition, int count, int[] out, int outOffset) {
+        int pos = bitPosition;
+        int mode = BitUtils.extractBitsOverlapping(data, pos, 1);
+        pos += 1;
+        int value = BitUtils.extractBitsOverlapping(data, pos, 32);
+        pos += 32;
+        if (out != null) out[outOffset] = value;
+
+        int delta = 0;
+        int windowLeading = 0;
+        int windowLength = 0;
+
+        for (int i = 1; i < count; i++) {
+            if (mode == MODE_DELTA_OF_DELTA) {
+                // count leading 1s of the bucket prefix
+                int bucket = 0;
+                while (bucket < 4 && BitUtils.extractBitsOverlapping(data, pos++, 1) == 1) {
+                    bucket++;
+                }
+                int dod = 0;
+                if (bucket > 0) {
+                    dod = BitUtils.zigzagDecode(BitUtils.extractBitsOverlapping(data, pos, BUCKET_BITS[bucket]));
+                    pos += BUCKET_BITS[bucket];
+                }
+                delta += dod;
+                value += delta;
+            } else {
+                if (BitUtils.extractBitsOverlapping(data, pos++, 1) == 1) {
+                    if (BitUtils.extractBitsOverlapping(data, pos++, 1) == 1) {
+                        // new window
+                        windowLeading = BitUtils.extractBitsOverlapping(data, pos, 5);
+                        windowLength = BitUtils.extractBitsOverlapping(data, pos + 5, 5) + 1;
+                        pos += 10;
+                    }
+                    int meaningful = BitUtils.extractBitsOverlapping(data, pos, windowLength);
+                    pos += windowLength;
+                    value ^= meaningful << (32 - windowLeading - windowLength);
+                }
+            }
+            if (out != null) out[outOffset + i] = value;
+        }
+        return value;
+    }
+
+    // one routine for sizing (out == null) and writing
+    private static int encode(int[] values, int from, int count, int mode, int[] out, int bitPosition) {
+        int pos = bitPosition;
+        pos = put(out, pos, mode, 1);
+        pos = put(out, pos, values[from], 32);
+
+        int previous = values[from];
+        int previousDelta = 0;
+        int windowLeading = -1;
+        int windowTrailing = 0;
+
+        for (int i = from + 1; i < from + count; i++) {
+            int value = values[i];
+
+            if (mode == MODE_DELTA_OF_DELTA) {
+                // wrapping arithmetic ~ exact for any int
+                int delta = value - previous;
+                int zigzag = BitUtils.zigzagEncode(delta - previousDelta);
+                previousDelta = delta;
+
+                if (zigzag == 0) {
+                    pos = put(out, pos, 0, 1);
+                } else {
+                    int bits = BitUtils.bitsNeeded(zigzag);
+                    int bucket = 1;
+                    while (BUCKET_BITS[bucket] < bits) bucket++;
+
+                    // bucket 1..3: that many 1s then a 0 ~ bucket 4: four 1s
+                    int prefixBits = bucket < 4 ? bucket + 1 : 4;
+                    pos = put(out, pos, (1 << bucket) - 1, prefixBits);
+                    pos = put(out, pos, zigzag, BUCKET_BITS[bucket]);
+                }
+            } else {
+                int xor = value ^ previous;
+
+                if (xor == 0) {
+                    pos = put(out, pos, 0, 1);
+                } else {
+                    int leading = Integer.numberOfLeadingZeros(xor);
+                    int trailing = Integer.numberOfTrailingZeros(xor);
+
+                    if (windowLeading >= 0 && leading >= windowLeading && trailing >= windowTrailing) {
+                        // '10' ~ fits the previous window
+                        int length = 32 - windowLeading - windowTrailing;
+                        pos = put(out, pos, 0b01, 2);
+                        pos = put(out, pos, xor >>> windowTrailing, length);
+                    } else {
+                        // '11' ~ new window: leading zeros, length - 1, meaningful bits
+                        int length = 32 - leading - trailing;
+                        pos = put(out, pos, 0b11, 2);
+                        pos = put(out, pos, leading, 5);
+                        pos = put(out, pos, length - 1, 5);
+                        pos = put(out, pos, xor >>> trailing, length);
+                        windowLeading = leading;
+                        windowTrailing = trailing;
+                    }
+                }
+            }
+            previous = value;
+        }
+        return pos;
+    }
+
+    private static int put(int[] out, int bitPosition, int value, int bits) {
+        if (out != null) {
+            BitUtils.writeBitsOverlapping(out, bitPosition, value, bits);
+        }
+        return bitPosition + bits;
+    }
+}
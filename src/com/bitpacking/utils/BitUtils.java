@@ -6,22 +6,54 @@ public final class BitUtils {
     
     private BitUtils() {}
     
-    // how many bits needed to represent this value
+    // how many bits needed to represent this value ~ negative counts as unsigned
     public static int bitsNeeded(int value) {
-        if (value < 0) throw new IllegalArgumentException("no negative value support yet..");
         if (value == 0) return 1;
         return 32 - Integer.numberOfLeadingZeros(value);
     }
     
-    // how many bits needed for max value in array
+    // how many bits needed for the array ~ signed arrays use the cheaper encoding
     public static int bitsNeededForArray(int[] data) {
-        int max = 0;
+        int[] range = minMax(data);
+        return bitsNeededForRange(range[0], range[1]);
+    }
+    
+    // min and max in one pass
+    public static int[] minMax(int[] data) {
+        int min = data[0];
+        int max = data[0];
 
         for (int val : data) {
-            if (val < 0) throw new IllegalArgumentException("no negative value support yet..");
+            if (val < min) min = val;
             if (val > max) max = val;
         }
-        return bitsNeeded(max);
+        return new int[] { min, max };
+    }
+    
+    public static int bitsNeededForRange(int min, int max) {
+        if (min >= 0) return bitsNeeded(max);
+        return Math.min(zigzagBitsForRange(min, max), offsetBitsForRange(min, max));
+    }
+    
+    // zigzag: small magnitudes of either sign stay small
+    public static int zigzagBitsForRange(int min, int max) {
+        int low = zigzagEncode(min);
+        int high = zigzagEncode(max);
+        return bitsNeeded(Integer.compareUnsigned(low, high) > 0 ? low : high);
+    }
+    
+    // offset from min ~ difference fits 32 bits unsigned
+    public static int offsetBitsForRange(int min, int max) {
+        return bitsNeeded(max - min);
+    }
+    
+    // 0, -1, 1, -2, 2 ... -> 0, 1, 2, 3, 4 ...
+    public static int zigzagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+    
+    public static int zigzagDecode(int encoded) {
+        return (encoded >>> 1) ^ -(encoded & 1);
     }
     
     // create mask with n bits set to 1
@@ -32,8 +64,8 @@ public final class BitUtils {
     
     // extract bits that can span two integers ~ overlap
     public static int extractBitsOverlapping(int[] data, int bitPosition, int bitsPerValue) {
-        int intIndex = bitPosition / 32;
-        int bitOffset = bitPosition % 32;
+        int intIndex = bitPosition >>> 5;  // / 32
+        int bitOffset = bitPosition & 31;  // % 32
         int bitsAvailable = 32 - bitOffset;
         
         if (bitsAvailable >= bitsPerValue) {
@@ -50,8 +82,8 @@ public final class BitUtils {
     
     // write bits that can span two integers (overlapping)
     public static void writeBitsOverlapping(int[] data, int bitPosition, int value, int bitsPerValue) {
-        int intIndex = bitPosition / 32;
-        int bitOffset = bitPosition % 32;
+        int intIndex = bitPosition >>> 5;  // / 32
+        int bitOffset = bitPosition & 31;  // % 32
         int bitsAvailable = 32 - bitOffset;
         int mask = createMask(bitsPerValue);
         value &= mask;
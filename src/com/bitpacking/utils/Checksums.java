@@ -0,0 +1,69 @@
+package com.bitpacking.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.zip.CRC32C;
+
+// per-block CRC32C checksums over packed data
+
+public final class Checksums {
+
+    // ints covered by one checksum ~ 4 KB
+    public static final int BLOCK_INTS = 1024;
+
+    // one buffer + CRC per thread ~ verify() and lazy checks allocate nothing
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private Checksums() {}
+
+    // how many checksum blocks for this many ints
+    public static int blockCount(int length) {
+        return (length + BLOCK_INTS - 1) / BLOCK_INTS;
+    }
+
+    // block holding this int index
+    public static int blockOf(int intIndex) {
+        return intIndex / BLOCK_INTS;
+    }
+
+    // checksum every block of the array
+    public static int[] compute(int[] data) {
+        int[] checksums = new int[blockCount(data.length)];
+        Scratch scratch = SCRATCH.get();
+
+        for (int block = 0; block < checksums.length; block++) {
+            checksums[block] = blockChecksum(data, block, scratch);
+        }
+        return checksums;
+    }
+
+    // checksum a single block
+    public static int blockChecksum(int[] data, int block) {
+        return blockChecksum(data, block, SCRATCH.get());
+    }
+
+    private static int blockChecksum(int[] data, int block, Scratch scratch) {
+        ByteBuffer buffer = scratch.buffer;
+        CRC32C crc = scratch.crc;
+        int from = block * BLOCK_INTS;
+        int length = Math.min(BLOCK_INTS, data.length - from);
+
+        // bulk copy as little-endian bytes, then hash
+        scratch.ints.clear();
+        scratch.ints.put(data, from, length);
+        buffer.clear();
+        buffer.limit(length * 4);
+
+        crc.reset();
+        crc.update(buffer);
+        return (int) crc.getValue();
+    }
+
+    // helper class
+    private static class Scratch {
+        final ByteBuffer buffer = ByteBuffer.allocate(BLOCK_INTS * 4).order(ByteOrder.LITTLE_ENDIAN);
+        final IntBuffer ints = buffer.asIntBuffer(); // view over the same bytes
+        final CRC32C crc = new CRC32C();
+    }
+}
@@ -0,0 +1,210 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+
+  // writes NonOverlappingWidths.java and OverlappingWidths.java ~ one final class per bit width
+ // run from the repo root after changing the templates: java tools/GenerateWidthCodecs.java
+
+public class GenerateWidthCodecs {
+
+    private static final String PACKAGE = "com.bitpacking.impl";
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "src/com/bitpacking/impl");
+
+        write(dir.resolve("NonOverlappingWidths.java"), nonOverlapping());
+        write(dir.resolve("OverlappingWidths.java"), overlapping());
+    }
+
+    private static String nonOverlapping() {
+        Source out = header("NonOverlappingWidths", "NonOverlappingBitPacking", "NON_OVERLAPPING",
+                "width, slot count, masks and shifts are literals ~ no divide by a field");
+
+        for (int w = 1; w <= 32; w++) {
+            int valuesPerInt = 32 / w;
+            out.line("");
+            out.line("    // " + w + (w == 1 ? " bit, " : " bits, ") + valuesPerInt + " per int");
+            out.line("    static final class W" + w + " extends NonOverlappingBitPacking {");
+            constructor(out, w);
+
+            out.line("");
+            out.line("        @Override");
+            out.line("        public int get(int index) {");
+            out.line("            checkIndex(index);");
+            if (valuesPerInt == 1) {
+                out.line("            ensureVerified(index, index);");
+                out.line("            return decodeValue(" + masked("compressedData[index]", w) + ");");
+            } else {
+                out.line("            int intIndex = " + slotOf("index", valuesPerInt) + ";");
+                out.line("            ensureVerified(intIndex, intIndex);");
+                out.line("            return decodeValue(" + masked("compressedData[intIndex] >>> ("
+                        + shiftOf("index", valuesPerInt, w) + ")", w) + ");");
+            }
+            out.line("        }");
+
+            out.line("");
+            out.line("        @Override");
+            out.line("        protected void unpack(int[] data, int fromIndex, int[] out) {");
+            if (valuesPerInt == 1) {
+                out.line("            for (int i = 0; i < out.length; i++) {");
+                out.line("                out[i] = decodeValue(" + masked("data[fromIndex + i]", w) + ");");
+                out.line("            }");
+            } else {
+                out.line("            int intIndex = " + slotOf("fromIndex", valuesPerInt) + ";");
+                out.line("            int shift = " + shiftOf("fromIndex", valuesPerInt, w) + ";");
+                out.line("            for (int i = 0; i < out.length; i++) {");
+                out.line("                out[i] = decodeValue(" + masked("data[intIndex] >>> shift", w) + ");");
+                out.line("                shift += " + w + ";");
+                out.line("                if (shift == " + valuesPerInt * w + ") {");
+                out.line("                    shift = 0;");
+                out.line("                    intIndex++;");
+                out.line("                }");
+                out.line("            }");
+            }
+            out.line("        }");
+            out.line("    }");
+        }
+        out.line("}");
+        return out.toString();
+    }
+
+    private static String overlapping() {
+        Source out = header("OverlappingWidths", "OverlappingBitPacking", "OVERLAPPING",
+                "width, masks and the straddle test are literals ~ no straddle branch when the width divides 32");
+
+        for (int w = 1; w <= 32; w++) {
+            boolean straddles = 32 % w != 0;
+            out.line("");
+            out.line("    // " + w + (w == 1 ? " bit" : " bits") + (straddles ? ", values can span two ints" : ""));
+            out.line("    static final class W" + w + " extends OverlappingBitPacking {");
+            constructor(out, w);
+
+            out.line("");
+            out.line("        @Override");
+            out.line("        public int get(int index) {");
+            out.line("            checkIndex(index);");
+            if (w == 32) {
+                out.line("            ensureVerified(index, index);");
+                out.line("            return decodeValue(compressedData[index]);");
+            } else {
+                out.line("            int bitPosition = index * " + w + ";");
+                out.line("            ensureVerified(bitPosition >>> 5, " + (straddles ? "(bitPosition + " + (w - 1) + ") >>> 5" : "bitPosition >>> 5") + ");");
+                out.line("            return decodeValue(extract(compressedData, bitPosition));");
+            }
+            out.line("        }");
+
+            out.line("");
+            out.line("        @Override");
+            out.line("        protected void unpack(int[] data, int fromIndex, int[] out) {");
+            if (w == 32) {
+                out.line("            for (int i = 0; i < out.length; i++) {");
+                out.line("                out[i] = decodeValue(data[fromIndex + i]);");
+                out.line("            }");
+            } else {
+                out.line("            int bitPosition = fromIndex * " + w + ";");
+                out.line("            for (int i = 0; i < out.length; i++) {");
+                out.line("                out[i] = decodeValue(extract(data, bitPosition));");
+                out.line("                bitPosition += " + w + ";");
+                out.line("            }");
+            }
+            out.line("        }");
+
+            if (w != 32) {
+                out.line("");
+                out.line("        private static int extract(int[] data, int bitPosition) {");
+                out.line("            int intIndex = bitPosition >>> 5;");
+                out.line("            int bitOffset = bitPosition & 31;");
+                if (straddles) {
+                    out.line("            int value = data[intIndex] >>> bitOffset;");
+                    out.line("            if (bitOffset > " + (32 - w) + ") {");
+                    out.line("                value |= data[intIndex + 1] << (32 - bitOffset);");
+                    out.line("            }");
+                    out.line("            return " + masked("value", w) + ";");
+                } else {
+                    out.line("            return " + masked("data[intIndex] >>> bitOffset", w) + ";");
+                }
+                out.line("        }");
+            }
+            out.line("    }");
+        }
+        out.line("}");
+        return out.toString();
+    }
+
+    private static Source header(String name, String base, String mode, String detail) {
+        Source out = new Source();
+        out.line("package " + PACKAGE + ";");
+        out.line("");
+        out.line("// GENERATED by tools/GenerateWidthCodecs.java ~ do not edit, rerun the generator");
+        out.line("");
+        out.line("");
+        out.line("  // one final " + mode + " codec per bit width, picked by BitPackingFactory");
+        out.line(" // " + detail);
+        out.line("");
+        out.line("public final class " + name + " {");
+        out.line("");
+        out.line("    private " + name + "() {}");
+        out.line("");
+        out.line("    // codec fixed at this width ~ compress rejects data that needs more bits");
+        out.line("    public static " + base + " forWidth(int bitsPerValue) {");
+        out.line("        switch (bitsPerValue) {");
+        for (int w = 1; w <= 32; w++) {
+            out.line("            case " + w + ": return new W" + w + "();");
+        }
+        out.line("            default:");
+        out.line("                throw new IllegalArgumentException(\"bit width must be 1..32: \" + bitsPerValue);");
+        out.line("        }");
+        out.line("    }");
+        return out;
+    }
+
+    private static void constructor(Source out, int w) {
+        out.line("        W" + w + "() {");
+        out.line("            super(" + w + ");");
+        out.line("        }");
+    }
+
+    // int index of a value ~ shift when the slot count is a power of two
+    private static String slotOf(String index, int valuesPerInt) {
+        if (Integer.bitCount(valuesPerInt) == 1) {
+            return index + " >>> " + Integer.numberOfTrailingZeros(valuesPerInt);
+        }
+        return index + " / " + valuesPerInt;
+    }
+
+    // bit offset of a value inside its int
+    private static String shiftOf(String index, int valuesPerInt, int w) {
+        String slot = Integer.bitCount(valuesPerInt) == 1
+                ? index + " & " + (valuesPerInt - 1)
+                : index + " % " + valuesPerInt;
+        return w == 1 ? slot : "(" + slot + ") * " + w;
+    }
+
+    private static String masked(String expression, int w) {
+        if (w == 32) return expression;
+        String operand = expression.contains(">>>") ? "(" + expression + ")" : expression;
+        return operand + " & 0x" + Integer.toHexString((int) ((1L << w) - 1)).toUpperCase();
+    }
+
+    private static void write(Path path, String source) throws IOException {
+        Files.write(path, source.getBytes(StandardCharsets.UTF_8));
+        System.out.println("wrote " + path);
+    }
+
+    // helper class
+    private static class Source {
+        private final StringBuilder text = new StringBuilder();
+
+        void line(String line) {
+            text.append(line).append('\n');
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}